@@ -0,0 +1,74 @@
+/*
+ * Developer: Jack Loss
+ * File Name: BenchmarkConfigurations.java
+ * Date: October 18, 2026
+ * Purpose: Enumerates every Cayman specification the configurator GUI (MainWindow.java)
+ *          can produce, for the benchmarks
+ */
+package configurator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Jack
+ */
+public class BenchmarkConfigurations {
+    private static final OptionCatalogue CATALOGUE = OptionCatalogue.getDefault();
+    private static final int EXT_COLORS = CATALOGUE.getCount(LineItem.Category.PAINT);
+    private static final int WHEEL_STYLES = CATALOGUE.getCount(LineItem.Category.WHEELS);
+    private static final int INT_COLORS = CATALOGUE.getCount(LineItem.Category.INTERIOR);
+    private static final int TRANS_TYPES = CATALOGUE.getCount(LineItem.Category.TRANSMISSION);
+    private static final int UPGRADES = CATALOGUE.getCount(LineItem.Category.UPGRADE);
+
+    //Every paint, wheel style, interior and transmission combination in the catalogue
+    public static final int SPECIFICATION_COUNT = EXT_COLORS * WHEEL_STYLES * INT_COLORS * TRANS_TYPES;
+    //Every on/off combination of the upgrade checkboxes
+    public static final int UPGRADE_COMBINATIONS = 1 << UPGRADES;
+
+    private BenchmarkConfigurations() {
+    }
+
+    //Sets the Cayman to specification number 0 to SPECIFICATION_COUNT - 1, the
+    //way clicking through the option radios would
+    public static void apply(Cayman cayman, int specification) {
+        int trans = specification % TRANS_TYPES;
+        specification /= TRANS_TYPES;
+        int intColor = specification % INT_COLORS;
+        specification /= INT_COLORS;
+        int wheelStyle = specification % WHEEL_STYLES;
+        specification /= WHEEL_STYLES;
+        cayman.setExtColor(specification);
+        cayman.setWheelStyle(wheelStyle);
+        cayman.setIntColor(intColor);
+        cayman.setTrans(trans);
+    }
+
+    //Upgrade price of a checkbox combination; bit i set means Cayman.UPGRADE_NAMES[i] is ticked
+    public static int getUpgradesPrice(int upgrades) {
+        return CaymanPricing.getUpgradesPrice(upgrades);
+    }
+
+    //Fills in the Cayman's options the way MainWindow.checkSelectedOptions does
+    public static void addUpgrades(Cayman cayman, int upgrades) {
+        cayman.clearOptions();
+        for(int i = 0; i < UPGRADES; i++) {
+            if((upgrades & (1 << i)) != 0) {
+                cayman.addUpgrade(i);
+            }
+        }
+    }
+
+    //Every model image key: each specification at each camera angle
+    public static List<ModelImageKey> allImageKeys() {
+        List<ModelImageKey> keys = new ArrayList<>();
+        Cayman cayman = new Cayman();
+        for(int specification = 0; specification < SPECIFICATION_COUNT; specification++) {
+            apply(cayman, specification);
+            for(String angle : ModelImageKey.ANGLES) {
+                keys.add(ModelImageKey.of(cayman, angle));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ConfigurationSearchBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures one budget search with ConfigurationSearch.java on the shipped
+ *          catalogue and on a much larger made-up one
+ */
+package configurator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ConfigurationSearchBenchmark {
+    //"default" is the shipped catalogue (1,440 configurations); "large" is a made-up
+    //one of 16 choices in each category and 48 upgrades (about 1.8e19 configurations)
+    @Param({"default", "large"})
+    public String catalogue;
+
+    @Param({"CHEAPEST", "MOST_EQUIPPED"})
+    public ConfigurationSearch.Order order;
+
+    private ConfigurationSearch search;
+    private ConfigurationSearch.Query query;
+
+    @Setup
+    public void setUp() throws IOException {
+        OptionCatalogue options = catalogue.equals("default") ? OptionCatalogue.getDefault() : largeCatalogue();
+        search = new ConfigurationSearch(options);
+        //Last paint and transmission with the first upgrade, $25 short of a
+        //round $100,000 so that no configuration hits the budget exactly
+        query = new ConfigurationSearch.Query()
+                .fix(LineItem.Category.PAINT, options.getCount(LineItem.Category.PAINT) - 1)
+                .fix(LineItem.Category.TRANSMISSION, options.getCount(LineItem.Category.TRANSMISSION) - 1)
+                .require(0).maxTotalPrice(99975).limit(10).order(order);
+    }
+
+    @Benchmark
+    public List<ConfigurationSearch.Match> search() {
+        return search.search(query);
+    }
+
+    private static OptionCatalogue largeCatalogue() throws IOException {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder("base - 67700 Base\ndelivery - 1050 Delivery\n");
+        appendSection(text, "paint", 16, random);
+        appendSection(text, "wheels", 16, random);
+        appendSection(text, "interior", 16, random);
+        appendSection(text, "transmission", 16, random);
+        appendSection(text, "upgrade", 48, random);
+        return OptionCatalogue.load(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    //Prices in whole tens of dollars, as in the shipped catalogue. Paints also
+    //need a colour; every made-up paint is grey.
+    private static void appendSection(StringBuilder text, String section, int count, Random random) {
+        for(int i = 0; i < count; i++) {
+            text.append(section).append(" option-").append(i).append(' ').append(10 * random.nextInt(400))
+                    .append(section.equals("paint") ? " #808080" : "").append(" Option ").append(i).append('\n');
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CsvExportBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures generating the specification CSV the way MainWindow.printDialogToCSV
+ *          does
+ */
+package configurator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CsvExportBenchmark {
+    //Upgrade checkboxes ticked: none, or all four
+    @Param({"0", "15"})
+    public int upgrades;
+
+    private CaymanSnapshot cayman;
+    private int equipPrice;
+    private int totalPrice;
+
+    @Setup
+    public void setUp() {
+        Cayman configured = new Cayman();
+        BenchmarkConfigurations.apply(configured, BenchmarkConfigurations.SPECIFICATION_COUNT - 1);
+        BenchmarkConfigurations.addUpgrades(configured, upgrades);
+        cayman = configured.snapshot();
+        equipPrice = CaymanPricing.getEquipPrice(cayman);
+        totalPrice = CaymanPricing.getTotalPrice(equipPrice);
+    }
+
+    //Written to memory so the result does not depend on the disk
+    @Benchmark
+    public String writeCsv() throws IOException {
+        StringWriter csv = new StringWriter(512);
+        SpecificationCsvWriter.write(cayman, equipPrice, totalPrice, csv);
+        return csv.toString();
+    }
+}
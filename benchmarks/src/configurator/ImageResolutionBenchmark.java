@@ -0,0 +1,82 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ImageResolutionBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures resolving and decoding model images for every specification and
+ *          camera angle through ModelImageLoader.java
+ */
+package configurator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads photos through ModelImageLoader only, so -Dcayman.imageDir has no effect
+ * here; the source parameter picks the asset pack or the classpath.
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageResolutionBenchmark {
+    //"display" decodes at the main window's label size, "full" at the photos' own size
+    @Param({"display", "full"})
+    public String size;
+
+    //"pack" reads photos from the asset pack named by -Dcayman.assetPack, as the
+    //shipped app does; "classpath" reads them from the class files like a dev build
+    @Param({"pack", "classpath"})
+    public String source;
+
+    private ModelImageKey[] keys;
+    private ModelImageLoader loader;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<ModelImageKey> allKeys = BenchmarkConfigurations.allImageKeys();
+        keys = allKeys.toArray(new ModelImageKey[allKeys.size()]);
+        ModelAssetPack assetPack = null;
+        if(source.equals("pack")) {
+            assetPack = ModelAssetPack.openDefault();
+            if(assetPack == null) {
+                throw new IllegalStateException("No asset pack; build one with the asset-pack target and set -Dcayman.assetPack");
+            }
+        }
+        //A one-byte cache never keeps an image, so every call decodes
+        loader = new ModelImageLoader(MainWindow.class, new ModelImageCache(1), assetPack);
+        if(size.equals("display")) {
+            loader.setDisplaySize(ModelImageLoader.DISPLAY_SIZE);
+        }
+    }
+
+    //Key to content id lookup of one image, cycling through every specification and angle
+    @Benchmark
+    public String resolveNextImage() {
+        ModelImageKey key = keys[next];
+        next = (next + 1) % keys.length;
+        return loader.contentIdOf(key);
+    }
+
+    //Lookup, read and decode of one image, cycling through every specification and angle
+    @Benchmark
+    public Object resolveAndDecode() {
+        ModelImageKey key = keys[next];
+        next = (next + 1) % keys.length;
+        return loader.getOrDecode(key);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PaintRecolorBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures per-frame render time of PaintRecolorRenderer.java at display
+ *          resolution and at larger sizes
+ */
+package configurator;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the photos from -Dcayman.imageDir (defaults to
+ * ../src/configurator/images/cayman-model, run from the benchmarks directory).
+ * This is the only benchmark that reads that property.
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PaintRecolorBenchmark {
+    //Multiple of the 360x203 display size
+    @Param({"1", "2", "4"})
+    public int scale;
+
+    //"serial" recolours on one thread, "parallel" forks tiles across every core
+    @Param({"serial", "parallel"})
+    public String threads;
+
+    private ForkJoinPool pool;
+    private PaintRecolorRenderer renderer;
+    private BufferedImage base;
+    private BufferedImage mask;
+    private int baseColor;
+    private int targetColor;
+
+    @Setup
+    public void setUp() throws IOException {
+        File imageDirectory = new File(System.getProperty("cayman.imageDir", "../src/configurator/images/cayman-model"));
+        ModelImageKey key = new ModelImageKey(PaintRecolorRenderer.BASE_EXT_COLOR_PATH, "20-911-turbo-wheels",
+                "black-interior", "pdk", "ext-2.jpg");
+        BufferedImage photo = ImageIO.read(new File(imageDirectory, key.getResourcePath().substring("images/cayman-model/".length())));
+        base = scale(photo, scale, BufferedImage.TYPE_INT_RGB);
+        mask = scale(PaintMaskBuilder.buildMask(imageDirectory, key), scale, BufferedImage.TYPE_BYTE_GRAY);
+        baseColor = PaintRecolorRenderer.PAINT_COLORS.get(PaintRecolorRenderer.BASE_EXT_COLOR_PATH);
+        targetColor = PaintRecolorRenderer.PAINT_COLORS.get("miami-blue");
+        pool = new ForkJoinPool(threads.equals("serial") ? 1 : Runtime.getRuntime().availableProcessors());
+        renderer = new PaintRecolorRenderer(PaintRecolorBenchmark.class, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    //Guards Red to Miami Blue, one frame
+    @Benchmark
+    public BufferedImage recolor() {
+        return renderer.recolor(base, mask, baseColor, targetColor);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int scale, int type) {
+        BufferedImage scaled = new BufferedImage(image.getWidth() * scale, image.getHeight() * scale, type);
+        Graphics2D g2 = scaled.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2.drawImage(image, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+        g2.dispose();
+        return scaled;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PdfExportBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures printing the specification summary to PDF the way
+ *          MainWindow.printDialogToPDF and BatchExporter do
+ */
+package configurator;
+
+import com.itextpdf.text.DocumentException;
+import java.awt.Image;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PdfExportBenchmark {
+    private CaymanSnapshot snapshot;
+    private Image modelImage;
+    private int equipPrice;
+
+    @Setup
+    public void setUp() {
+        Cayman cayman = new Cayman();
+        BenchmarkConfigurations.apply(cayman, BenchmarkConfigurations.SPECIFICATION_COUNT - 1);
+        BenchmarkConfigurations.addUpgrades(cayman, BenchmarkConfigurations.UPGRADE_COMBINATIONS - 1);
+        equipPrice = CaymanPricing.getEquipPrice(cayman, BenchmarkConfigurations.getUpgradesPrice(BenchmarkConfigurations.UPGRADE_COMBINATIONS - 1));
+        snapshot = cayman.snapshot();
+        modelImage = UiIcons.get("/configurator/images/cayman-model/default-config/ext-1.jpg").getImage();
+    }
+
+    @Benchmark
+    public byte[] writePdf() throws DocumentException, IOException {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream(64 * 1024);
+        SpecificationPdfWriter.write(snapshot, modelImage, equipPrice, CaymanPricing.getTotalPrice(equipPrice), pdf);
+        return pdf.toByteArray();
+    }
+}
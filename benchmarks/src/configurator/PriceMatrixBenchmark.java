@@ -0,0 +1,84 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PriceMatrixBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures pricing the whole configuration space with PriceMatrix.java on
+ *          one thread and on every core
+ */
+package configurator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx1g"})
+public class PriceMatrixBenchmark {
+    //"default" is the shipped catalogue (1,440 configurations); "large" is a made-up
+    //one of 16 paints, 8 wheels, 8 interiors, 4 transmissions and 12 upgrades
+    //(about 16.8 million configurations), to show how the work scales
+    @Param({"default", "large"})
+    public String catalogue;
+
+    //"serial" prices on one thread, "parallel" forks across every core
+    @Param({"serial", "parallel"})
+    public String threads;
+
+    private ForkJoinPool pool;
+    private OptionCatalogue options;
+
+    @Setup
+    public void setUp() throws IOException {
+        options = catalogue.equals("default") ? OptionCatalogue.getDefault() : largeCatalogue();
+        pool = new ForkJoinPool(threads.equals("serial") ? 1 : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PriceMatrix priceEveryConfiguration() {
+        return new PriceMatrix(options).compute(pool);
+    }
+
+    private static OptionCatalogue largeCatalogue() throws IOException {
+        StringBuilder text = new StringBuilder("base - 67700 Base\ndelivery - 1050 Delivery\n");
+        appendSection(text, "paint", 16);
+        appendSection(text, "wheels", 8);
+        appendSection(text, "interior", 8);
+        appendSection(text, "transmission", 4);
+        appendSection(text, "upgrade", 12);
+        return OptionCatalogue.load(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    //Paints also need a colour; every made-up paint is grey
+    private static void appendSection(StringBuilder text, String section, int count) {
+        for(int i = 0; i < count; i++) {
+            text.append(section).append(" option-").append(i).append(' ').append(i * 170)
+                    .append(section.equals("paint") ? " #808080" : "").append(" Option ").append(i).append('\n');
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PricingBenchmark.java
+ * Date: October 18, 2026
+ * Purpose: Measures pricing a Cayman specification from scratch, and keeping the
+ *          price up to date through PriceEngine the way MainWindow does after each click
+ */
+package configurator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Jack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PricingBenchmark {
+    private static final LineItem.Category[] CHOICE_CATEGORIES = {
+        LineItem.Category.PAINT, LineItem.Category.WHEELS, LineItem.Category.INTERIOR, LineItem.Category.TRANSMISSION
+    };
+    //Clicks replayed by applyClicks; a fixed pseudo-random sequence
+    private static final int CLICKS = 1024;
+
+    private final Cayman cayman = new Cayman();
+    private final PriceEngine priceEngine = new PriceEngine(OptionCatalogue.getDefault());
+    private final int[] clickCategories = new int[CLICKS];
+    private final int[] clickOrdinals = new int[CLICKS];
+    //Next configuration priceNextConfiguration prices, cycling through all of them
+    private int configuration;
+
+    public PricingBenchmark() {
+        OptionCatalogue catalogue = OptionCatalogue.getDefault();
+        Random random = new Random(42);
+        for(int i = 0; i < CLICKS; i++) {
+            //0-3 pick a choice category, 4 toggles an upgrade
+            clickCategories[i] = random.nextInt(CHOICE_CATEGORIES.length + 1);
+            clickOrdinals[i] = random.nextInt(clickCategories[i] < CHOICE_CATEGORIES.length
+                    ? catalogue.getCount(CHOICE_CATEGORIES[clickCategories[i]])
+                    : catalogue.getCount(LineItem.Category.UPGRADE));
+        }
+    }
+
+    //Time per configuration: price equipment and total, cycling through every
+    //configuration the catalogue allows. The four options are set once per
+    //specification, as the old loop over the whole space did.
+    @Benchmark
+    public int priceNextConfiguration() {
+        int upgrades = configuration % BenchmarkConfigurations.UPGRADE_COMBINATIONS;
+        if(upgrades == 0) {
+            BenchmarkConfigurations.apply(cayman, configuration / BenchmarkConfigurations.UPGRADE_COMBINATIONS);
+        }
+        configuration = (configuration + 1) % (BenchmarkConfigurations.SPECIFICATION_COUNT * BenchmarkConfigurations.UPGRADE_COMBINATIONS);
+        int equipPrice = CaymanPricing.getEquipPrice(cayman, BenchmarkConfigurations.getUpgradesPrice(upgrades));
+        return CaymanPricing.getTotalPrice(equipPrice);
+    }
+
+    //Time per click: apply one option change to the running price
+    @Benchmark
+    @OperationsPerInvocation(CLICKS)
+    public int applyClicks() {
+        for(int i = 0; i < CLICKS; i++) {
+            if(clickCategories[i] < CHOICE_CATEGORIES.length) {
+                priceEngine.setChoice(CHOICE_CATEGORIES[clickCategories[i]], clickOrdinals[i]);
+            } else {
+                priceEngine.setUpgrade(clickOrdinals[i], (priceEngine.getUpgrades() & 1L << clickOrdinals[i]) == 0);
+            }
+        }
+        return priceEngine.getTotalPrice();
+    }
+}
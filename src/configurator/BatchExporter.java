@@ -0,0 +1,262 @@
+/*
+ * Developer: Jack Loss
+ * File Name: BatchExporter.java
+ * Date: October 18, 2026
+ * Purpose: Writes the CSV and PDF spec sheets of a list of configurations from
+ *          the command line, in parallel and without opening any windows
+ */
+package configurator;
+
+import com.itextpdf.text.DocumentException;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.ImageIcon;
+
+/**
+ * Each line of the configurations file names one spec sheet and its options,
+ * either as catalogue paths or as a hex ConfigurationKey:
+ * <pre>
+ *  # name    paint       wheels               interior        transmission  upgrades...
+ *  blue-pdk  miami-blue  20-911-turbo-wheels  black-interior  pdk           pasm bose
+ *  dealer-7  0x31004
+ * </pre>
+ * and becomes name.csv and name.pdf in the output directory. The CSV is the
+ * same as the configurator's; the PDF is drawn by SpecificationSheet with
+ * iText alone rather than printed from the overview window, so the exports
+ * can run in parallel without Swing. The whole file is checked before
+ * anything is written. Also reachable as {@code MainWindow --export ...}.
+ * @author Jack
+ */
+public class BatchExporter {
+    private static final Logger LOGGER = Logger.getLogger(BatchExporter.class.getName());
+
+    private final File outputDir;
+    private final OptionCatalogue catalogue = OptionCatalogue.getDefault();
+    //Shared by every export thread; a photo is decoded once per specification
+    private final ModelImageLoader imageLoader = new ModelImageLoader(BatchExporter.class,
+            new ModelImageCache(48L * 1024 * 1024), ModelAssetPack.openDefault());
+
+    public BatchExporter(File outputDir) {
+        this.outputDir = outputDir;
+        //The sheet's photo is sized as the overview window shows it
+        imageLoader.setDisplaySize(ModelImageLoader.DISPLAY_SIZE);
+    }
+
+    //One line of the configurations file
+    public static class Specification {
+        private final String name;
+        private final long configurationKey;
+
+        public Specification(String name, long configurationKey) {
+            this.name = name;
+            this.configurationKey = configurationKey;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getConfigurationKey() {
+            return configurationKey;
+        }
+    }
+
+    //Reads and checks every line; nothing is exported from a file with a bad line
+    public List<Specification> read(File configurations) throws IOException {
+        List<Specification> specifications = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(configurations), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if(line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                if(!fields[0].matches("[A-Za-z0-9._-]+")) {
+                    throw new IOException("Line " + lineNumber + " has a name that is not a plain file name: " + fields[0]);
+                } if(!names.add(fields[0])) {
+                    throw new IOException("Line " + lineNumber + " repeats the name " + fields[0]);
+                }
+                try {
+                    specifications.add(new Specification(fields[0], parseConfiguration(fields)));
+                } catch (IllegalArgumentException ex) {
+                    throw new IOException("Line " + lineNumber + ": " + ex.getMessage());
+                }
+            }
+        }
+        return specifications;
+    }
+
+    private long parseConfiguration(String[] fields) {
+        if(fields.length == 2 && fields[1].startsWith("0x")) {
+            long key = Long.parseLong(fields[1].substring(2), 16);
+            checkOrdinal(LineItem.Category.PAINT, ConfigurationKey.extColorOf(key), fields[1]);
+            checkOrdinal(LineItem.Category.WHEELS, ConfigurationKey.wheelStyleOf(key), fields[1]);
+            checkOrdinal(LineItem.Category.INTERIOR, ConfigurationKey.intColorOf(key), fields[1]);
+            checkOrdinal(LineItem.Category.TRANSMISSION, ConfigurationKey.transOf(key), fields[1]);
+            if(ConfigurationKey.upgradesOf(key) >>> catalogue.getCount(LineItem.Category.UPGRADE) != 0) {
+                throw new IllegalArgumentException("Unknown upgrades in " + fields[1]);
+            }
+            return key;
+        } if(fields.length < 5) {
+            throw new IllegalArgumentException("Expected a name, then a paint, wheels, interior and transmission, or a 0x key");
+        }
+        long upgrades = 0;
+        for(int i = 5; i < fields.length; i++) {
+            upgrades |= 1L << ordinalOf(LineItem.Category.UPGRADE, fields[i]);
+        }
+        return ConfigurationKey.encode(ordinalOf(LineItem.Category.PAINT, fields[1]),
+                ordinalOf(LineItem.Category.WHEELS, fields[2]),
+                ordinalOf(LineItem.Category.INTERIOR, fields[3]),
+                ordinalOf(LineItem.Category.TRANSMISSION, fields[4]), upgrades);
+    }
+
+    private int ordinalOf(LineItem.Category category, String path) {
+        int ordinal = catalogue.ordinalOf(category, path);
+        if(ordinal < 0) {
+            throw new IllegalArgumentException("No " + category + " called " + path + " in the catalogue");
+        }
+        return ordinal;
+    }
+
+    private void checkOrdinal(LineItem.Category category, int ordinal, String key) {
+        if(ordinal >= catalogue.getCount(category)) {
+            throw new IllegalArgumentException("No " + category + " choice " + ordinal + " in " + key);
+        }
+    }
+
+    //Exports every specification on a pool of the given size; returns how many
+    //failed, each of which has been logged
+    public int exportAll(List<Specification> specifications, int threads) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> exports = new ArrayList<>(specifications.size());
+            for(final Specification specification : specifications) {
+                exports.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        return export(specification);
+                    }
+                }));
+            }
+            int failed = 0;
+            for(Future<Boolean> export : exports) {
+                try {
+                    if(!export.get()) {
+                        failed++;
+                    }
+                } catch (ExecutionException ex) {
+                    LOGGER.log(Level.SEVERE, null, ex.getCause());
+                    failed++;
+                }
+            }
+            return failed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    //Writes name.csv and name.pdf; true when both were written
+    public boolean export(Specification specification) {
+        long key = specification.getConfigurationKey();
+        Cayman cayman = new Cayman();
+        cayman.setExtColor(ConfigurationKey.extColorOf(key));
+        cayman.setWheelStyle(ConfigurationKey.wheelStyleOf(key));
+        cayman.setIntColor(ConfigurationKey.intColorOf(key));
+        cayman.setTrans(ConfigurationKey.transOf(key));
+        long upgrades = ConfigurationKey.upgradesOf(key);
+        for(int i = 0; upgrades >>> i != 0; i++) {
+            if((upgrades & 1L << i) != 0) {
+                cayman.addUpgrade(i);
+            }
+        }
+        CaymanSnapshot snapshot = cayman.snapshot();
+        int equipPrice = CaymanPricing.getEquipPrice(snapshot);
+        int totalPrice = CaymanPricing.getTotalPrice(equipPrice);
+        return exportCsv(snapshot, equipPrice, totalPrice, new File(outputDir, specification.getName() + ".csv"))
+                & exportPdf(snapshot, equipPrice, totalPrice, new File(outputDir, specification.getName() + ".pdf"));
+    }
+
+    private boolean exportCsv(CaymanSnapshot snapshot, int equipPrice, int totalPrice, File file) {
+        Object exportEvent = ConfiguratorEvents.beginExport();
+        boolean exported = false;
+        try (Writer writer = new BufferedWriter(new FileWriter(file))) {
+            SpecificationCsvWriter.write(snapshot, equipPrice, totalPrice, writer);
+            exported = true;
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Cannot write " + file, ex);
+        } finally {
+            ConfiguratorEvents.commitExport(exportEvent, "CSV", file, exported);
+        }
+        return exported;
+    }
+
+    private boolean exportPdf(CaymanSnapshot snapshot, int equipPrice, int totalPrice, File file) {
+        Object exportEvent = ConfiguratorEvents.beginExport();
+        boolean exported = false;
+        try {
+            ImageIcon modelImage = imageLoader.getOrDecode(ModelImageKey.of(snapshot, "ext-1.jpg"));
+            SpecificationPdfWriter.write(snapshot, modelImage == null ? null : modelImage.getImage(), equipPrice, totalPrice,
+                    new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+            exported = true;
+        } catch (IOException | DocumentException ex) {
+            LOGGER.log(Level.SEVERE, "Cannot write " + file, ex);
+        } finally {
+            ConfiguratorEvents.commitExport(exportEvent, "PDF", file, exported);
+        }
+        return exported;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        //Before anything touches AWT, so no window can ever be opened
+        System.setProperty("java.awt.headless", "true");
+        if(args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BatchExporter <configurations file> <output directory> [<threads>]");
+            System.exit(2);
+        }
+        File outputDir = new File(args[1]);
+        if(!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            System.err.println("Cannot create " + outputDir);
+            System.exit(2);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        BatchExporter exporter = new BatchExporter(outputDir);
+        List<Specification> specifications;
+        try {
+            specifications = exporter.read(new File(args[0]));
+        } catch (IOException ex) {
+            System.err.println(args[0] + ": " + ex.getMessage());
+            System.exit(2);
+            return;
+        }
+        long start = System.nanoTime();
+        int failed = exporter.exportAll(specifications, threads);
+        System.out.println(String.format(Locale.ROOT, "Exported %d of %d configurations to %s on %d threads in %.1f s",
+                specifications.size() - failed, specifications.size(), outputDir, threads, (System.nanoTime() - start) / 1e9));
+        System.exit(failed == 0 ? 0 : 1);
+    }
+}
@@ -6,52 +6,54 @@
  */
 package configurator;
 
-import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Jack
  */
 public class Cayman {
-    private static final DecimalFormat DF = new DecimalFormat("$#,###");
+    private static final OptionCatalogue CATALOGUE = OptionCatalogue.getDefault();
     
-    private String extColorName;
-    private int extColorPrice;
+    //Path segments of every choice in the model-image tree, in on-screen order
+    public static final String[] EXT_COLOR_PATHS = CATALOGUE.getPaths(LineItem.Category.PAINT);
+    public static final String[] WHEEL_STYLE_PATHS = CATALOGUE.getPaths(LineItem.Category.WHEELS);
+    public static final String[] INT_COLOR_PATHS = CATALOGUE.getPaths(LineItem.Category.INTERIOR);
+    public static final String[] TRANS_PATHS = CATALOGUE.getPaths(LineItem.Category.TRANSMISSION);
+    //Additional upgrades, in on-screen order; ConfigurationKey's upgrade bits follow it
+    public static final String[] UPGRADE_NAMES = CATALOGUE.getNames(LineItem.Category.UPGRADE);
+    
+    private LineItem extColor;
     private String extColorPath;
-    private String wheelStyleName;
-    private int wheelStylePrice;
+    private LineItem wheelStyle;
     private String wheelStylePath;
-    private String intColorName;
-    private int intColorPrice;
+    private LineItem intColor;
     private String intColorPath;
-    private String transType;
-    private int transPrice;
+    private LineItem trans;
     private String transPath;
-    private StringBuilder optionNames = new StringBuilder();
-    private StringBuilder optionPrices = new StringBuilder();
+    private final List<LineItem> options = new ArrayList<>();
+    //Last snapshot taken, dropped by every change
+    private CaymanSnapshot snapshot;
     
+    //Starts with the first choice of every category in the catalogue
     public Cayman() {
-        extColorName = "Guards Red";
-        extColorPrice = 0;
-        extColorPath = "guards-red";
-        wheelStyleName = "19\" Cayman S Wheels";
-        wheelStylePrice = 0;
-        wheelStylePath = "19-cayman-s-wheels";
-        intColorName = "Standard Black Interior";
-        intColorPrice = 0;
-        intColorPath = "black-interior";
-        transType = "Manual";
-        transPrice = 0;
-        transPath = "manual-trans";
-        optionNames.append("N/A");
-        optionNames.append("N/A");
+        extColor = CATALOGUE.getLineItem(LineItem.Category.PAINT, 0);
+        extColorPath = EXT_COLOR_PATHS[0];
+        wheelStyle = CATALOGUE.getLineItem(LineItem.Category.WHEELS, 0);
+        wheelStylePath = WHEEL_STYLE_PATHS[0];
+        intColor = CATALOGUE.getLineItem(LineItem.Category.INTERIOR, 0);
+        intColorPath = INT_COLOR_PATHS[0];
+        trans = CATALOGUE.getLineItem(LineItem.Category.TRANSMISSION, 0);
+        transPath = TRANS_PATHS[0];
     }
     
     public String getExtColorName() {
-        return extColorName;
+        return extColor.getName();
     }
     
     public int getExtColorPrice() {
-        return extColorPrice;
+        return extColor.getPriceDollars();
     }
     
     public String getExtColorPath() {
@@ -59,11 +61,11 @@ public class Cayman {
     }
     
     public String getWheelStyleName() {
-        return wheelStyleName;
+        return wheelStyle.getName();
     }
     
     public int getWheelStylePrice() {
-        return wheelStylePrice;
+        return wheelStyle.getPriceDollars();
     }
     
     public String getWheelStylePath() {
@@ -71,11 +73,11 @@ public class Cayman {
     }
     
     public String getIntColorName() {
-        return intColorName;
+        return intColor.getName();
     }
     
     public int getIntColorPrice() {
-        return intColorPrice;
+        return intColor.getPriceDollars();
     }
     
     public String getIntColorPath() {
@@ -83,53 +85,122 @@ public class Cayman {
     }
     
     public String getTransType() {
-        return transType;
+        return trans.getName();
     }
     
     public int getTransPrice() {
-        return transPrice;
+        return trans.getPriceDollars();
     }
     
     public String getTransPath() {
         return transPath;
     }
     
-    public StringBuilder getOptionNames() {
-        return optionNames;
+    //The upgrades added since the last clearOptions(), in the order they were added
+    public List<LineItem> getOptions() {
+        return Collections.unmodifiableList(options);
+    }
+    
+    //An immutable copy of the specification as it is now, safe to hand to other
+    //threads. Reused until the specification next changes.
+    public CaymanSnapshot snapshot() {
+        if(snapshot == null) {
+            snapshot = new CaymanSnapshot(extColor, extColorPath, wheelStyle, wheelStylePath,
+                    intColor, intColorPath, trans, transPath,
+                    options.toArray(new LineItem[options.size()]));
+        }
+        return snapshot;
+    }
+    
+    //Choose by catalogue ordinal (see OptionCatalogue)
+    public void setExtColor(int ordinal) {
+        setExtColor(CATALOGUE.getLineItem(LineItem.Category.PAINT, ordinal), EXT_COLOR_PATHS[ordinal]);
+    }
+    
+    public void setWheelStyle(int ordinal) {
+        setWheelStyle(CATALOGUE.getLineItem(LineItem.Category.WHEELS, ordinal), WHEEL_STYLE_PATHS[ordinal]);
+    }
+    
+    public void setIntColor(int ordinal) {
+        setIntColor(CATALOGUE.getLineItem(LineItem.Category.INTERIOR, ordinal), INT_COLOR_PATHS[ordinal]);
     }
     
-    public StringBuilder getOptionPrices() {
-        return optionPrices;
+    public void setTrans(int ordinal) {
+        setTrans(CATALOGUE.getLineItem(LineItem.Category.TRANSMISSION, ordinal), TRANS_PATHS[ordinal]);
+    }
+    
+    //Choose any of the four choice categories by catalogue ordinal
+    public void setChoice(LineItem.Category category, int ordinal) {
+        switch(category) {
+            case PAINT:
+                setExtColor(ordinal);
+                break;
+            case WHEELS:
+                setWheelStyle(ordinal);
+                break;
+            case INTERIOR:
+                setIntColor(ordinal);
+                break;
+            case TRANSMISSION:
+                setTrans(ordinal);
+                break;
+            default:
+                throw new IllegalArgumentException(category + " is not a single choice");
+        }
+    }
+    
+    public void addUpgrade(int ordinal) {
+        snapshot = null;
+        options.add(CATALOGUE.getLineItem(LineItem.Category.UPGRADE, ordinal));
     }
     
     public void setExtColor(String extColorName, int extColorPrice, String extColorPath) {
-        this.extColorName = extColorName;
-        this.extColorPrice = extColorPrice;
+        setExtColor(LineItem.ofDollars(LineItem.Category.PAINT, extColorName, extColorPrice), extColorPath);
+    }
+    
+    private void setExtColor(LineItem extColor, String extColorPath) {
+        snapshot = null;
+        this.extColor = extColor;
         this.extColorPath = extColorPath;
     }
     
     public void setWheelStyle(String wheelStyleName, int wheelStylePrice, String wheelStylePath) {
-        this.wheelStyleName = wheelStyleName;
-        this.wheelStylePrice = wheelStylePrice;
+        setWheelStyle(LineItem.ofDollars(LineItem.Category.WHEELS, wheelStyleName, wheelStylePrice), wheelStylePath);
+    }
+    
+    private void setWheelStyle(LineItem wheelStyle, String wheelStylePath) {
+        snapshot = null;
+        this.wheelStyle = wheelStyle;
         this.wheelStylePath = wheelStylePath;
     }
     
     public void setIntColor(String intColorName, int intColorPrice, String intColorPath) {
-        this.intColorName = intColorName;
-        this.intColorPrice = intColorPrice;
+        setIntColor(LineItem.ofDollars(LineItem.Category.INTERIOR, intColorName, intColorPrice), intColorPath);
+    }
+    
+    private void setIntColor(LineItem intColor, String intColorPath) {
+        snapshot = null;
+        this.intColor = intColor;
         this.intColorPath = intColorPath;
     }
     
     public void setTrans(String transType, int transPrice, String transPath) {
-        this.transType = transType;
-        this.transPrice = transPrice;
+        setTrans(LineItem.ofDollars(LineItem.Category.TRANSMISSION, transType, transPrice), transPath);
+    }
+    
+    private void setTrans(LineItem trans, String transPath) {
+        snapshot = null;
+        this.trans = trans;
         this.transPath = transPath;
     }
     
     public void addOption(String optionName, int optionPrice) {
-        optionNames.append(optionName);
-        optionNames.append("<br>");
-        optionPrices.append(DF.format(optionPrice));
-        optionPrices.append("<br>");
+        snapshot = null;
+        options.add(LineItem.ofDollars(LineItem.Category.UPGRADE, optionName, optionPrice));
+    }
+    
+    public void clearOptions() {
+        snapshot = null;
+        options.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CaymanPricing.java
+ * Date: October 18, 2026
+ * Purpose: Prices a Cayman specification for the configurator GUI (MainWindow.java)
+ *          and its exports
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class CaymanPricing {
+    private static final OptionCatalogue CATALOGUE = OptionCatalogue.getDefault();
+    //From the catalogue; not compile-time constants, so no class copies them in
+    public static final int BASE_PRICE = CATALOGUE.getBasePrice();
+    public static final int DELIVERY_PRICE = CATALOGUE.getDeliveryPrice();
+    //Upgrade prices indexed by upgrade ordinal (see Cayman.UPGRADE_NAMES)
+    private static final int[] UPGRADE_PRICES = CATALOGUE.getPrices(LineItem.Category.UPGRADE);
+
+    private CaymanPricing() {
+    }
+
+    //Price of everything chosen on top of the base car: the paint, wheels,
+    //interior and transmission, plus the upgrades already added up
+    public static int getEquipPrice(Cayman cayman, int upgradesPrice) {
+        return getEquipPrice(cayman.getExtColorPrice(), cayman.getWheelStylePrice(),
+                cayman.getIntColorPrice(), cayman.getTransPrice(), upgradesPrice);
+    }
+
+    //The same for a snapshot, whose options are the upgrades
+    public static int getEquipPrice(CaymanSnapshot snapshot) {
+        return getEquipPrice(snapshot.getExtColorPrice(), snapshot.getWheelStylePrice(),
+                snapshot.getIntColorPrice(), snapshot.getTransPrice(), snapshot.getOptionsPrice());
+    }
+
+    //Sum of the upgrades in a bitmask; bit i set means upgrade i is chosen
+    public static int getUpgradesPrice(long upgrades) {
+        int price = 0;
+        for(int i = 0; i < UPGRADE_PRICES.length; i++) {
+            if((upgrades & 1L << i) != 0) {
+                price += UPGRADE_PRICES[i];
+            }
+        }
+        return price;
+    }
+
+    public static int getTotalPrice(int equipPrice) {
+        return BASE_PRICE + equipPrice + DELIVERY_PRICE;
+    }
+
+    private static int getEquipPrice(int extColorPrice, int wheelStylePrice, int intColorPrice,
+            int transPrice, int upgradesPrice) {
+        return upgradesPrice + extColorPrice + wheelStylePrice + intColorPrice + transPrice;
+    }
+}
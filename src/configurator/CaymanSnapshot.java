@@ -0,0 +1,165 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CaymanSnapshot.java
+ * Date: October 18, 2026
+ * Purpose: Freezes a Cayman specification (Cayman.java) so exports, image loading
+ *          and other background work can read it off the Event Dispatch Thread
+ */
+package configurator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Taken with Cayman.snapshot(). Every field is final and never changes, so a
+ * snapshot can be read by any number of threads at once without locking.
+ * @author Jack
+ */
+public final class CaymanSnapshot {
+    //Paint, wheels, interior and transmission
+    private static final int CHOICES = 4;
+
+    private final LineItem extColor;
+    private final String extColorPath;
+    private final LineItem wheelStyle;
+    private final String wheelStylePath;
+    private final LineItem intColor;
+    private final String intColorPath;
+    private final LineItem trans;
+    private final String transPath;
+    //The four choices followed by the options; owned by the snapshot, never handed out
+    private final LineItem[] lineItems;
+    private final List<LineItem> lineItemList;
+    private final List<LineItem> optionList;
+    //Bitmask of the options that are upgrades, in Cayman.UPGRADE_NAMES order
+    private final long upgrades;
+
+    CaymanSnapshot(LineItem extColor, String extColorPath, LineItem wheelStyle, String wheelStylePath,
+            LineItem intColor, String intColorPath, LineItem trans, String transPath, LineItem[] options) {
+        this.extColor = extColor;
+        this.extColorPath = extColorPath;
+        this.wheelStyle = wheelStyle;
+        this.wheelStylePath = wheelStylePath;
+        this.intColor = intColor;
+        this.intColorPath = intColorPath;
+        this.trans = trans;
+        this.transPath = transPath;
+        lineItems = new LineItem[CHOICES + options.length];
+        lineItems[0] = extColor;
+        lineItems[1] = wheelStyle;
+        lineItems[2] = intColor;
+        lineItems[3] = trans;
+        System.arraycopy(options, 0, lineItems, CHOICES, options.length);
+        lineItemList = Collections.unmodifiableList(Arrays.asList(lineItems));
+        optionList = lineItemList.subList(CHOICES, lineItems.length);
+        long mask = 0;
+        for(LineItem option : options) {
+            for(int i = 0; i < Cayman.UPGRADE_NAMES.length; i++) {
+                if(Cayman.UPGRADE_NAMES[i].equals(option.getName())) {
+                    mask |= 1L << i;
+                }
+            }
+        }
+        this.upgrades = mask;
+    }
+
+    public LineItem getExtColor() {
+        return extColor;
+    }
+
+    public String getExtColorName() {
+        return extColor.getName();
+    }
+
+    public int getExtColorPrice() {
+        return extColor.getPriceDollars();
+    }
+
+    public String getExtColorPath() {
+        return extColorPath;
+    }
+
+    public LineItem getWheelStyle() {
+        return wheelStyle;
+    }
+
+    public String getWheelStyleName() {
+        return wheelStyle.getName();
+    }
+
+    public int getWheelStylePrice() {
+        return wheelStyle.getPriceDollars();
+    }
+
+    public String getWheelStylePath() {
+        return wheelStylePath;
+    }
+
+    public LineItem getIntColor() {
+        return intColor;
+    }
+
+    public String getIntColorName() {
+        return intColor.getName();
+    }
+
+    public int getIntColorPrice() {
+        return intColor.getPriceDollars();
+    }
+
+    public String getIntColorPath() {
+        return intColorPath;
+    }
+
+    public LineItem getTrans() {
+        return trans;
+    }
+
+    public String getTransType() {
+        return trans.getName();
+    }
+
+    public int getTransPrice() {
+        return trans.getPriceDollars();
+    }
+
+    public String getTransPath() {
+        return transPath;
+    }
+
+    //Paint, wheels, interior and transmission, then the options
+    public List<LineItem> getLineItems() {
+        return lineItemList;
+    }
+
+    public List<LineItem> getOptions() {
+        return optionList;
+    }
+
+    public long getOptionsPriceCents() {
+        long cents = 0;
+        for(int i = CHOICES; i < lineItems.length; i++) {
+            cents += lineItems[i].getPriceCents();
+        }
+        return cents;
+    }
+
+    public int getOptionsPrice() {
+        return (int) (getOptionsPriceCents() / 100);
+    }
+
+    public long getUpgrades() {
+        return upgrades;
+    }
+
+    //The whole specification packed into a long (see ConfigurationKey)
+    public long getConfigurationKey() {
+        return ConfigurationKey.encode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "CaymanSnapshot" + lineItemList;
+    }
+}
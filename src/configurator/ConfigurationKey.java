@@ -0,0 +1,186 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ConfigurationKey.java
+ * Date: October 18, 2026
+ * Purpose: Packs a complete Cayman configuration into a single long, for caching,
+ *          indexing and storing configurations cheaply
+ */
+package configurator;
+
+/**
+ * Layout of the packed long, lowest bit first:
+ * <pre>
+ *  bits  0-3   exterior color ordinal  (index into Cayman.EXT_COLOR_PATHS)
+ *  bits  4-7   wheel style ordinal     (index into Cayman.WHEEL_STYLE_PATHS)
+ *  bits  8-11  interior color ordinal  (index into Cayman.INT_COLOR_PATHS)
+ *  bits 12-15  transmission ordinal    (index into Cayman.TRANS_PATHS)
+ *  bits 16-63  upgrade bitmask; bit n set means upgrade n (Cayman.UPGRADE_NAMES) is chosen
+ * </pre>
+ * Two configurations are equal exactly when their packed longs are equal. The
+ * static methods work on the bare long and never allocate; wrap it in a
+ * ConfigurationKey only where an object is needed, e.g. as a map key.
+ * @author Jack
+ */
+public final class ConfigurationKey implements Comparable<ConfigurationKey> {
+    //Each choice category holds up to 16 choices; there is room for 48 upgrades
+    public static final int MAX_CHOICES = 16;
+    public static final int MAX_UPGRADES = 48;
+
+    private static final int CHOICE_BITS = 4;
+    private static final long CHOICE_MASK = MAX_CHOICES - 1;
+    private static final int EXT_COLOR_SHIFT = 0;
+    private static final int WHEEL_STYLE_SHIFT = 4;
+    private static final int INT_COLOR_SHIFT = 8;
+    private static final int TRANS_SHIFT = 12;
+    private static final int UPGRADES_SHIFT = 16;
+
+    private final long packed;
+
+    private ConfigurationKey(long packed) {
+        this.packed = packed;
+    }
+
+    public static ConfigurationKey of(long packed) {
+        return new ConfigurationKey(packed);
+    }
+
+    public static long encode(int extColor, int wheelStyle, int intColor, int trans, long upgrades) {
+        if(upgrades >>> MAX_UPGRADES != 0) {
+            throw new IllegalArgumentException("Upgrade bitmask wider than " + MAX_UPGRADES + " bits: " + Long.toHexString(upgrades));
+        }
+        return (long) checkChoice(extColor) << EXT_COLOR_SHIFT
+                | (long) checkChoice(wheelStyle) << WHEEL_STYLE_SHIFT
+                | (long) checkChoice(intColor) << INT_COLOR_SHIFT
+                | (long) checkChoice(trans) << TRANS_SHIFT
+                | upgrades << UPGRADES_SHIFT;
+    }
+
+    //Packs the Cayman's current choices with the given upgrade bitmask
+    public static long encode(Cayman cayman, long upgrades) {
+        return encode(ordinalOf(Cayman.EXT_COLOR_PATHS, cayman.getExtColorPath()),
+                ordinalOf(Cayman.WHEEL_STYLE_PATHS, cayman.getWheelStylePath()),
+                ordinalOf(Cayman.INT_COLOR_PATHS, cayman.getIntColorPath()),
+                ordinalOf(Cayman.TRANS_PATHS, cayman.getTransPath()),
+                upgrades);
+    }
+
+    public static long encode(CaymanSnapshot snapshot) {
+        return encode(ordinalOf(Cayman.EXT_COLOR_PATHS, snapshot.getExtColorPath()),
+                ordinalOf(Cayman.WHEEL_STYLE_PATHS, snapshot.getWheelStylePath()),
+                ordinalOf(Cayman.INT_COLOR_PATHS, snapshot.getIntColorPath()),
+                ordinalOf(Cayman.TRANS_PATHS, snapshot.getTransPath()),
+                snapshot.getUpgrades());
+    }
+
+    public static int extColorOf(long packed) {
+        return (int) (packed >>> EXT_COLOR_SHIFT & CHOICE_MASK);
+    }
+
+    public static int wheelStyleOf(long packed) {
+        return (int) (packed >>> WHEEL_STYLE_SHIFT & CHOICE_MASK);
+    }
+
+    public static int intColorOf(long packed) {
+        return (int) (packed >>> INT_COLOR_SHIFT & CHOICE_MASK);
+    }
+
+    public static int transOf(long packed) {
+        return (int) (packed >>> TRANS_SHIFT & CHOICE_MASK);
+    }
+
+    public static long upgradesOf(long packed) {
+        return packed >>> UPGRADES_SHIFT;
+    }
+
+    public static boolean hasUpgrade(long packed, int upgrade) {
+        return (upgradesOf(packed) & 1L << checkUpgrade(upgrade)) != 0;
+    }
+
+    public static long withUpgrade(long packed, int upgrade, boolean chosen) {
+        long bit = 1L << (UPGRADES_SHIFT + checkUpgrade(upgrade));
+        return chosen ? packed | bit : packed & ~bit;
+    }
+
+    public static long withExtColor(long packed, int extColor) {
+        return with(packed, EXT_COLOR_SHIFT, extColor);
+    }
+
+    public static long withWheelStyle(long packed, int wheelStyle) {
+        return with(packed, WHEEL_STYLE_SHIFT, wheelStyle);
+    }
+
+    public static long withIntColor(long packed, int intColor) {
+        return with(packed, INT_COLOR_SHIFT, intColor);
+    }
+
+    public static long withTrans(long packed, int trans) {
+        return with(packed, TRANS_SHIFT, trans);
+    }
+
+    //Spreads every bit of the key over the hash, so keys differing only in the
+    //upgrade bits do not collide in hash tables (the 64-bit MurmurHash3 finaliser)
+    public static int hash(long packed) {
+        long h = packed;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    public long getPacked() {
+        return packed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ConfigurationKey && ((ConfigurationKey) other).packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(packed);
+    }
+
+    //Orders by the packed bits read as unsigned, i.e. by upgrades, then
+    //transmission, interior, wheels and paint
+    @Override
+    public int compareTo(ConfigurationKey other) {
+        return Long.compareUnsigned(packed, other.packed);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationKey[ext=" + extColorOf(packed) + ", wheels=" + wheelStyleOf(packed)
+                + ", int=" + intColorOf(packed) + ", trans=" + transOf(packed)
+                + ", upgrades=" + Long.toBinaryString(upgradesOf(packed)) + "]";
+    }
+
+    private static long with(long packed, int shift, int choice) {
+        return packed & ~(CHOICE_MASK << shift) | (long) checkChoice(choice) << shift;
+    }
+
+    private static int ordinalOf(String[] paths, String path) {
+        for(int i = 0; i < paths.length; i++) {
+            if(paths[i].equals(path)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown option path: " + path);
+    }
+
+    private static int checkChoice(int choice) {
+        if(choice < 0 || choice >= MAX_CHOICES) {
+            throw new IllegalArgumentException("Choice ordinal out of range: " + choice);
+        }
+        return choice;
+    }
+
+    private static int checkUpgrade(int upgrade) {
+        if(upgrade < 0 || upgrade >= MAX_UPGRADES) {
+            throw new IllegalArgumentException("Upgrade index out of range: " + upgrade);
+        }
+        return upgrade;
+    }
+}
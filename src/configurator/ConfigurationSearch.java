@@ -0,0 +1,438 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ConfigurationSearch.java
+ * Date: October 18, 2026
+ * Purpose: Finds the cheapest or best-equipped configurations that keep some
+ *          options fixed and stay within a budget
+ */
+package configurator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Answers questions like "everything in Miami Blue with PDK under $80,000".
+ * The configuration space is walked one category at a time (each upgrade
+ * counts as a category of its own: left off or added), and a branch is
+ * dropped as soon as even its best completion cannot beat the budget or the
+ * k-th best match found so far. Categories with the widest price range go
+ * first, since they decide the most.
+ * <p>
+ * The cheapest completion of a branch is just the cheapest choice of every
+ * remaining category. The dearest completion that still fits the budget is
+ * not, because the budget can fall between the sums the options can make, so
+ * for MOST_EQUIPPED the search first works out which equipment prices the
+ * remaining categories can add up to, as one bit set per category. Either
+ * way the bound is exact, so only branches that hold a match are walked.
+ * @author Jack
+ */
+public class ConfigurationSearch {
+    public enum Order {
+        //Lowest total price first
+        CHEAPEST,
+        //Highest equipment price first, i.e. the most car for the budget
+        MOST_EQUIPPED
+    }
+
+    private static final LineItem.Category[] CHOICE_CATEGORIES = {
+        LineItem.Category.PAINT, LineItem.Category.WHEELS, LineItem.Category.INTERIOR, LineItem.Category.TRANSMISSION
+    };
+
+    //Most longs the MOST_EQUIPPED bit sets may take (8 MB); past that the
+    //budget alone bounds the dearest completion
+    private static final long MAX_REACHABLE_WORDS = 1 << 20;
+
+    private final OptionCatalogue catalogue;
+
+    public ConfigurationSearch(OptionCatalogue catalogue) {
+        this.catalogue = catalogue;
+    }
+
+    //What to search for. Unset categories may take any choice, upgrades that are
+    //neither required nor excluded may be on or off, and there is no budget.
+    public static class Query {
+        private final int[] fixedChoices = {-1, -1, -1, -1};
+        private long requiredUpgrades;
+        private long excludedUpgrades;
+        private int maxTotalPrice = Integer.MAX_VALUE;
+        private int limit = 10;
+        private Order order = Order.CHEAPEST;
+
+        //Only the paint, wheels, interior or transmission with this ordinal
+        public Query fix(LineItem.Category category, int ordinal) {
+            int index = choiceIndexOf(category);
+            if(ordinal < 0 || ordinal >= ConfigurationKey.MAX_CHOICES) {
+                throw new IllegalArgumentException("No " + category + " choice " + ordinal);
+            }
+            fixedChoices[index] = ordinal;
+            return this;
+        }
+
+        public Query require(int upgrade) {
+            checkUpgrade(upgrade);
+            requiredUpgrades |= 1L << upgrade;
+            excludedUpgrades &= ~(1L << upgrade);
+            return this;
+        }
+
+        public Query exclude(int upgrade) {
+            checkUpgrade(upgrade);
+            excludedUpgrades |= 1L << upgrade;
+            requiredUpgrades &= ~(1L << upgrade);
+            return this;
+        }
+
+        //Inclusive, with the base price and delivery fee
+        public Query maxTotalPrice(int maxTotalPrice) {
+            this.maxTotalPrice = maxTotalPrice;
+            return this;
+        }
+
+        //How many matches to return at most
+        public Query limit(int limit) {
+            if(limit < 1) {
+                throw new IllegalArgumentException("Limit must be positive: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public Query order(Order order) {
+            this.order = order;
+            return this;
+        }
+
+        //Only the key's bounds are known here; the catalogue's are checked by search
+        private static void checkUpgrade(int upgrade) {
+            if(upgrade < 0 || upgrade >= ConfigurationKey.MAX_UPGRADES) {
+                throw new IllegalArgumentException("No upgrade " + upgrade);
+            }
+        }
+    }
+
+    public static final class Match {
+        private final long configurationKey;
+        private final int equipPrice;
+        private final int totalPrice;
+
+        private Match(long configurationKey, int equipPrice, int totalPrice) {
+            this.configurationKey = configurationKey;
+            this.equipPrice = equipPrice;
+            this.totalPrice = totalPrice;
+        }
+
+        public long getConfigurationKey() {
+            return configurationKey;
+        }
+
+        public int getEquipPrice() {
+            return equipPrice;
+        }
+
+        public int getTotalPrice() {
+            return totalPrice;
+        }
+
+        @Override
+        public String toString() {
+            return "$" + totalPrice + " " + ConfigurationKey.of(configurationKey);
+        }
+    }
+
+    //The best matches, best first; empty when nothing fits
+    public List<Match> search(Query query) {
+        Search search = new Search(query);
+        search.walk(0, 0, 0);
+        return search.results();
+    }
+
+    private static int choiceIndexOf(LineItem.Category category) {
+        for(int i = 0; i < CHOICE_CATEGORIES.length; i++) {
+            if(CHOICE_CATEGORIES[i] == category) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a choice category: " + category);
+    }
+
+    //One run of a query: the pruned levels to walk and the best matches so far
+    private class Search {
+        private final boolean cheapest;
+        //Budget for the equipment alone
+        private final int maxEquipPrice;
+        private final int fixedPrice;
+        //Per level, the allowed options in the order they are tried, as the
+        //price and the ConfigurationKey bits each one sets
+        private final int[][] levelPrices;
+        private final long[][] levelBits;
+        //Cheapest completion of the levels from i on
+        private final int[] minRest;
+        //Bit p of reachable[i] is set when the levels from i on can add up to
+        //exactly p dollars; only built for MOST_EQUIPPED, and null when the
+        //budget is too large for bit sets of a sensible size
+        private final long[][] reachable;
+        //Bounded heap holding the worst kept match at the root
+        private final long[] heapKeys;
+        private final int[] heapPrices;
+        private int heapSize;
+
+        private Search(Query query) {
+            cheapest = query.order == Order.CHEAPEST;
+            fixedPrice = catalogue.getBasePrice() + catalogue.getDeliveryPrice();
+            maxEquipPrice = (int) Math.min(Integer.MAX_VALUE, (long) query.maxTotalPrice - fixedPrice);
+            heapKeys = new long[query.limit];
+            heapPrices = new int[query.limit];
+            List<int[]> prices = new ArrayList<>();
+            List<long[]> bits = new ArrayList<>();
+            for(int c = 0; c < CHOICE_CATEGORIES.length; c++) {
+                int[] table = catalogue.getPrices(CHOICE_CATEGORIES[c]);
+                int fixed = query.fixedChoices[c];
+                if(fixed >= table.length) {
+                    throw new IllegalArgumentException("No " + CHOICE_CATEGORIES[c] + " choice " + fixed);
+                }
+                int first = fixed < 0 ? 0 : fixed;
+                int last = fixed < 0 ? table.length : fixed + 1;
+                int[] levelPrice = new int[last - first];
+                long[] levelBit = new long[last - first];
+                for(int o = first; o < last; o++) {
+                    levelPrice[o - first] = table[o];
+                    levelBit[o - first] = choiceBits(c, o);
+                }
+                prices.add(levelPrice);
+                bits.add(levelBit);
+            }
+            int[] upgradePrices = catalogue.getPrices(LineItem.Category.UPGRADE);
+            long unknownUpgrades = (query.requiredUpgrades | query.excludedUpgrades) >>> upgradePrices.length;
+            if(unknownUpgrades != 0) {
+                throw new IllegalArgumentException("No upgrade " + (upgradePrices.length + Long.numberOfTrailingZeros(unknownUpgrades)));
+            }
+            for(int u = 0; u < upgradePrices.length; u++) {
+                long bit = ConfigurationKey.withUpgrade(0, u, true);
+                if((query.requiredUpgrades & 1L << u) != 0) {
+                    prices.add(new int[]{upgradePrices[u]});
+                    bits.add(new long[]{bit});
+                } else if((query.excludedUpgrades & 1L << u) == 0) {
+                    prices.add(new int[]{0, upgradePrices[u]});
+                    bits.add(new long[]{0, bit});
+                }
+            }
+            //Widest price range first; within a level, most promising option first
+            Integer[] levels = new Integer[prices.size()];
+            for(int i = 0; i < levels.length; i++) {
+                sortOptions(prices.get(i), bits.get(i));
+                levels[i] = i;
+            }
+            final List<int[]> unsorted = prices;
+            Arrays.sort(levels, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Integer.compare(spreadOf(unsorted.get(b)), spreadOf(unsorted.get(a)));
+                }
+            });
+            levelPrices = new int[levels.length][];
+            levelBits = new long[levels.length][];
+            for(int i = 0; i < levels.length; i++) {
+                levelPrices[i] = prices.get(levels[i]);
+                levelBits[i] = bits.get(levels[i]);
+            }
+            minRest = new int[levels.length + 1];
+            long maxTotal = 0;
+            for(int i = levels.length - 1; i >= 0; i--) {
+                int[] level = levelPrices[i];
+                minRest[i] = minRest[i + 1] + (cheapest ? level[0] : level[level.length - 1]);
+                maxTotal += cheapest ? level[level.length - 1] : level[0];
+            }
+            int cap = (int) Math.min(maxTotal, Math.max(maxEquipPrice, 0));
+            reachable = cheapest || ((long) cap / 64 + 1) * (levels.length + 1) > MAX_REACHABLE_WORDS ? null : reachable(cap);
+        }
+
+        //Sums the levels from each one on can make, up to cap dollars
+        private long[][] reachable(int cap) {
+            int words = cap / 64 + 1;
+            long[][] sums = new long[levelPrices.length + 1][];
+            sums[levelPrices.length] = new long[words];
+            sums[levelPrices.length][0] = 1;
+            for(int i = levelPrices.length - 1; i >= 0; i--) {
+                sums[i] = new long[words];
+                for(int price : levelPrices[i]) {
+                    orShifted(sums[i], sums[i + 1], price);
+                }
+                //Drop sums over the cap shifted into the last word
+                sums[i][words - 1] &= -1L >>> (63 - cap % 64);
+            }
+            return sums;
+        }
+
+        //Puts the options of one level cheapest first, or dearest first when
+        //looking for the best-equipped matches
+        private void sortOptions(int[] price, long[] bit) {
+            for(int i = 1; i < price.length; i++) {
+                for(int j = i; j > 0 && (cheapest ? price[j] < price[j - 1] : price[j] > price[j - 1]); j--) {
+                    int p = price[j];
+                    price[j] = price[j - 1];
+                    price[j - 1] = p;
+                    long b = bit[j];
+                    bit[j] = bit[j - 1];
+                    bit[j - 1] = b;
+                }
+            }
+        }
+
+        private void walk(int level, int equipPrice, long key) {
+            if(level == levelPrices.length) {
+                offer(key, equipPrice);
+                return;
+            }
+            int[] prices = levelPrices[level];
+            long[] bits = levelBits[level];
+            for(int o = 0; o < prices.length; o++) {
+                int price = equipPrice + prices[o];
+                if(cheapest) {
+                    //Options are cheapest first, so once one cannot make it
+                    //none of the later ones can either
+                    int lowest = price + minRest[level + 1];
+                    if(lowest > maxEquipPrice || heapSize == heapKeys.length && lowest >= heapPrices[0]) {
+                        return;
+                    }
+                } else {
+                    int highest = price + highestCompletion(level + 1, maxEquipPrice - price);
+                    if(highest < price || heapSize == heapKeys.length && highest <= heapPrices[0]) {
+                        continue;
+                    }
+                }
+                walk(level + 1, price, key | bits[o]);
+            }
+        }
+
+        //Dearest sum the levels from level on can make within budget dollars,
+        //or -1 when none fits
+        private int highestCompletion(int level, int budget) {
+            if(budget < minRest[level]) {
+                return -1;
+            } if(reachable == null) {
+                //Not exact, but never too low
+                return budget;
+            }
+            long[] sums = reachable[level];
+            int word = Math.min(budget / 64, sums.length - 1);
+            long bits = sums[word];
+            if(word == budget / 64) {
+                bits &= -1L >>> (63 - budget % 64);
+            }
+            while(bits == 0) {
+                if(--word < 0) {
+                    return -1;
+                }
+                bits = sums[word];
+            }
+            return word * 64 + 63 - Long.numberOfLeadingZeros(bits);
+        }
+
+        private void offer(long key, int equipPrice) {
+            if(heapSize < heapKeys.length) {
+                heapKeys[heapSize] = key;
+                heapPrices[heapSize] = equipPrice;
+                siftUp(heapSize++);
+            } else if(worse(heapPrices[0], equipPrice)) {
+                heapKeys[0] = key;
+                heapPrices[0] = equipPrice;
+                siftDown(0);
+            }
+        }
+
+        //True when a match priced a is worse than one priced b for this order
+        private boolean worse(int a, int b) {
+            return cheapest ? a > b : a < b;
+        }
+
+        private void siftUp(int i) {
+            while(i > 0) {
+                int parent = (i - 1) / 2;
+                if(!worse(heapPrices[i], heapPrices[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while(true) {
+                int worst = i;
+                for(int child = 2 * i + 1; child <= 2 * i + 2 && child < heapSize; child++) {
+                    if(worse(heapPrices[child], heapPrices[worst])) {
+                        worst = child;
+                    }
+                }
+                if(worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = heapKeys[i];
+            heapKeys[i] = heapKeys[j];
+            heapKeys[j] = key;
+            int price = heapPrices[i];
+            heapPrices[i] = heapPrices[j];
+            heapPrices[j] = price;
+        }
+
+        private List<Match> results() {
+            List<Match> matches = new ArrayList<>(heapSize);
+            for(int i = 0; i < heapSize; i++) {
+                matches.add(new Match(heapKeys[i], heapPrices[i], fixedPrice + heapPrices[i]));
+            }
+            Collections.sort(matches, new Comparator<Match>() {
+                @Override
+                public int compare(Match a, Match b) {
+                    int byPrice = cheapest ? Integer.compare(a.equipPrice, b.equipPrice) : Integer.compare(b.equipPrice, a.equipPrice);
+                    return byPrice != 0 ? byPrice : Long.compareUnsigned(a.configurationKey, b.configurationKey);
+                }
+            });
+            return matches;
+        }
+    }
+
+    //Ors source shifted up by shift bits into target, dropping what falls off the end
+    private static void orShifted(long[] target, long[] source, int shift) {
+        int words = shift / 64;
+        int bits = shift % 64;
+        for(int i = target.length - 1; i >= words; i--) {
+            long shifted = source[i - words] << bits;
+            if(bits != 0 && i - words - 1 >= 0) {
+                shifted |= source[i - words - 1] >>> (64 - bits);
+            }
+            target[i] |= shifted;
+        }
+    }
+
+    private static long choiceBits(int choiceIndex, int ordinal) {
+        switch(choiceIndex) {
+            case 0:
+                return ConfigurationKey.withExtColor(0, ordinal);
+            case 1:
+                return ConfigurationKey.withWheelStyle(0, ordinal);
+            case 2:
+                return ConfigurationKey.withIntColor(0, ordinal);
+            default:
+                return ConfigurationKey.withTrans(0, ordinal);
+        }
+    }
+
+    private static int spreadOf(int[] prices) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for(int price : prices) {
+            min = Math.min(min, price);
+            max = Math.max(max, price);
+        }
+        return max - min;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ConfiguratorEventSink.java
+ * Date: October 18, 2026
+ * Purpose: Receives the configurator's diagnostic events (see ConfiguratorEvents.java)
+ */
+package configurator;
+
+import java.io.File;
+
+/**
+ * @author Jack
+ */
+interface ConfiguratorEventSink {
+    void optionChanged(String category, String oldValue, String newValue);
+
+    //Timed events start with begin...() and end with the matching commit...(),
+    //which takes the token begin...() returned
+    Object beginImageLoad();
+
+    void commitImageLoad(Object token, String path, String source, long bytesRead, boolean cacheHit);
+
+    Object beginPriceRecompute();
+
+    void commitPriceRecompute(Object token, int equipPrice, int totalPrice);
+
+    Object beginExport();
+
+    void commitExport(Object token, String format, File file, boolean succeeded);
+}
@@ -0,0 +1,94 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ConfiguratorEvents.java
+ * Date: October 18, 2026
+ * Purpose: Emits Java Flight Recorder events for option changes, model image loads,
+ *          price recomputes and exports in the configurator GUI (MainWindow.java)
+ */
+package configurator;
+
+import java.io.File;
+
+/**
+ * @author Jack
+ */
+public class ConfiguratorEvents {
+    //Flight Recorder events when the running JVM has jdk.jfr; otherwise nothing
+    private static final ConfiguratorEventSink SINK = loadSink();
+
+    private ConfiguratorEvents() {
+    }
+
+    public static void optionChanged(String category, String oldValue, String newValue) {
+        SINK.optionChanged(category, oldValue, newValue);
+    }
+
+    public static Object beginImageLoad() {
+        return SINK.beginImageLoad();
+    }
+
+    //source is where the image came from: "cache", "pack", "classpath" or "recolor"
+    public static void commitImageLoad(Object token, String path, String source, long bytesRead, boolean cacheHit) {
+        SINK.commitImageLoad(token, path, source, bytesRead, cacheHit);
+    }
+
+    public static Object beginPriceRecompute() {
+        return SINK.beginPriceRecompute();
+    }
+
+    public static void commitPriceRecompute(Object token, int equipPrice, int totalPrice) {
+        SINK.commitPriceRecompute(token, equipPrice, totalPrice);
+    }
+
+    public static Object beginExport() {
+        return SINK.beginExport();
+    }
+
+    public static void commitExport(Object token, String format, File file, boolean succeeded) {
+        SINK.commitExport(token, format, file, succeeded);
+    }
+
+    //JfrEventSink is only loaded once jdk.jfr is known to be there, so the
+    //configurator still runs on Java 8 builds without Flight Recorder
+    private static ConfiguratorEventSink loadSink() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (ConfiguratorEventSink) Class.forName("configurator.JfrEventSink").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return new NoEventSink();
+        }
+    }
+
+    private static class NoEventSink implements ConfiguratorEventSink {
+        @Override
+        public void optionChanged(String category, String oldValue, String newValue) {
+        }
+
+        @Override
+        public Object beginImageLoad() {
+            return null;
+        }
+
+        @Override
+        public void commitImageLoad(Object token, String path, String source, long bytesRead, boolean cacheHit) {
+        }
+
+        @Override
+        public Object beginPriceRecompute() {
+            return null;
+        }
+
+        @Override
+        public void commitPriceRecompute(Object token, int equipPrice, int totalPrice) {
+        }
+
+        @Override
+        public Object beginExport() {
+            return null;
+        }
+
+        @Override
+        public void commitExport(Object token, String format, File file, boolean succeeded) {
+        }
+    }
+}
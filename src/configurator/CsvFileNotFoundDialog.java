@@ -0,0 +1,91 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CsvFileNotFoundDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports that the configurator GUI (MainWindow.java) could not open
+ *          the CSV file, e.g. because another program has it open
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class CsvFileNotFoundDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public CsvFileNotFoundDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        csvFileNotFoundErrorIcon = new javax.swing.JLabel();
+        csvFileNotFoundErrorMessage = new javax.swing.JLabel();
+        csvFileNotFoundOKButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Error: File Not Found");
+        setResizable(false);
+        setSize(new java.awt.Dimension(1040, 175));
+
+        csvFileNotFoundErrorIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/error-dialog-icon.png"));
+        csvFileNotFoundErrorIcon.setText("jLabel1");
+
+        csvFileNotFoundErrorMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        csvFileNotFoundErrorMessage.setText("Error! The file you are trying to access is currently being used by another operation or cannot be found. Please try again.");
+
+        csvFileNotFoundOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        csvFileNotFoundOKButton.setVerifyInputWhenFocusTarget(false);
+        csvFileNotFoundOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                csvFileNotFoundOKButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(48, 48, 48)
+                        .addComponent(csvFileNotFoundErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(31, 31, 31)
+                        .addComponent(csvFileNotFoundErrorMessage))
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(442, 442, 442)
+                        .addComponent(csvFileNotFoundOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                .addContainerGap(54, Short.MAX_VALUE))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(csvFileNotFoundErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(csvFileNotFoundErrorMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(csvFileNotFoundOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void csvFileNotFoundOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_csvFileNotFoundOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_csvFileNotFoundOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel csvFileNotFoundErrorIcon;
+    private javax.swing.JLabel csvFileNotFoundErrorMessage;
+    private javax.swing.JButton csvFileNotFoundOKButton;
+    // End of variables declaration//GEN-END:variables
+}
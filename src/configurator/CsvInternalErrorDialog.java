@@ -0,0 +1,91 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CsvInternalErrorDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports any other failure to save the CSV from the configurator GUI
+ *          (MainWindow.java)
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class CsvInternalErrorDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public CsvInternalErrorDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        csvInternalErrorIcon = new javax.swing.JLabel();
+        csvInternalErrorMessage = new javax.swing.JLabel();
+        csvInternalErrorOKButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Internal Error");
+        setResizable(false);
+        setSize(new java.awt.Dimension(400, 175));
+
+        csvInternalErrorIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/error-dialog-icon.png"));
+        csvInternalErrorIcon.setText("jLabel1");
+
+        csvInternalErrorMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        csvInternalErrorMessage.setText("Internal error. Please try again.");
+
+        csvInternalErrorOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        csvInternalErrorOKButton.setVerifyInputWhenFocusTarget(false);
+        csvInternalErrorOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                csvInternalErrorOKButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(48, 48, 48)
+                        .addComponent(csvInternalErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(31, 31, 31)
+                        .addComponent(csvInternalErrorMessage))
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(121, 121, 121)
+                        .addComponent(csvInternalErrorOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                .addContainerGap(52, Short.MAX_VALUE))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(csvInternalErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(csvInternalErrorMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(csvInternalErrorOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void csvInternalErrorOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_csvInternalErrorOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_csvInternalErrorOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel csvInternalErrorIcon;
+    private javax.swing.JLabel csvInternalErrorMessage;
+    private javax.swing.JButton csvInternalErrorOKButton;
+    // End of variables declaration//GEN-END:variables
+}
@@ -0,0 +1,91 @@
+/*
+ * Developer: Jack Loss
+ * File Name: CsvSuccessDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports that the configurator GUI (MainWindow.java) saved the
+ *          specification as a CSV
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class CsvSuccessDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public CsvSuccessDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        csvSuccessDialogIcon = new javax.swing.JLabel();
+        csvSuccessMessage = new javax.swing.JLabel();
+        csvSuccessOKButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("File Successfully Saved");
+        setIconImage(null);
+        setResizable(false);
+        setSize(new java.awt.Dimension(1040, 175));
+
+        csvSuccessDialogIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/success-dialog-icon.png"));
+        csvSuccessDialogIcon.setText("jLabel1");
+
+        csvSuccessMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        csvSuccessMessage.setText("Success! Your specification has been saved to the current user's home directory as a CSV file named \"cayman-spec.csv\"");
+
+        csvSuccessOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        csvSuccessOKButton.setVerifyInputWhenFocusTarget(false);
+        csvSuccessOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                csvSuccessOKButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(47, 47, 47)
+                .addComponent(csvSuccessDialogIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGap(31, 31, 31)
+                .addComponent(csvSuccessMessage)
+                .addContainerGap(61, Short.MAX_VALUE))
+            .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
+                .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                .addComponent(csvSuccessOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGap(422, 422, 422))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(csvSuccessDialogIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(csvSuccessMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(csvSuccessOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void csvSuccessOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_csvSuccessOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_csvSuccessOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel csvSuccessDialogIcon;
+    private javax.swing.JLabel csvSuccessMessage;
+    private javax.swing.JButton csvSuccessOKButton;
+    // End of variables declaration//GEN-END:variables
+}
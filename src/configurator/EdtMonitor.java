@@ -0,0 +1,299 @@
+/*
+ * Developer: Jack Loss
+ * File Name: EdtMonitor.java
+ * Date: October 18, 2026
+ * Purpose: Times the configurator GUI's (MainWindow.java) event handlers and catches
+ *          the Event Dispatch Thread stalling, to find which clicks are janky
+ */
+package configurator;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.AbstractButton;
+
+/**
+ * @author Jack
+ */
+public class EdtMonitor {
+    //-Dcayman.edtMonitor=true turns the monitor on. A dispatch running longer than
+    //-Dcayman.edtMonitor.stallMillis (default 100) is a stall; reports go to
+    //-Dcayman.edtMonitor.file (default ~/cayman-edt-report.txt)
+    private static final boolean ENABLED = Boolean.getBoolean("cayman.edtMonitor");
+    private static final long STALL_NANOS = Long.getLong("cayman.edtMonitor.stallMillis", 100) * 1000000;
+    private static final File REPORT_FILE = new File(System.getProperty("cayman.edtMonitor.file",
+            new File(System.getProperty("user.home"), "cayman-edt-report.txt").getPath()));
+    private static final int MAX_STALLS = 50;
+    private static final String ALL_EVENTS = "(all EDT events)";
+
+    private static final Logger LOGGER = Logger.getLogger(EdtMonitor.class.getName());
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new TreeMap<>();
+    //Most recent stalls, oldest first
+    private static final Deque<Stall> STALLS = new ArrayDeque<>();
+
+    //State of the event being dispatched, written by the EDT and polled by the watchdog
+    private static volatile Thread edt;
+    private static volatile long dispatchStart;
+    private static volatile long dispatchNumber;
+    private static volatile String dispatchName;
+    private static volatile String currentAction;
+    private static boolean installed;
+
+    private EdtMonitor() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    //Times every event the EDT dispatches and starts the stall watchdog. Call from
+    //main() before any window is created.
+    public static synchronized void install() {
+        if(!ENABLED || installed) {
+            return;
+        }
+        installed = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimedEventQueue());
+        Thread watchdog = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                watch();
+            }
+        }, "edt-stall-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dump();
+            }
+        }, "edt-monitor-report"));
+    }
+
+    //Times each action handler of the owner's buttons under the button's field
+    //name. Safe to call again after more of the owner's components are built.
+    public static void instrument(Object owner) {
+        if(!ENABLED) {
+            return;
+        }
+        for(Field field : owner.getClass().getDeclaredFields()) {
+            if(!AbstractButton.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                AbstractButton button = (AbstractButton) field.get(owner);
+                if(button == null) {
+                    continue;
+                }
+                for(ActionListener listener : button.getActionListeners()) {
+                    if(!(listener instanceof TimedActionListener)) {
+                        button.removeActionListener(listener);
+                        button.addActionListener(new TimedActionListener(field.getName(), listener));
+                    }
+                }
+            } catch (IllegalAccessException | RuntimeException ex) {
+                LOGGER.log(Level.FINE, "Cannot time " + field.getName(), ex);
+            }
+        }
+    }
+
+    //Adds a latency sample for work timed outside an action handler
+    public static void record(String name, long nanos) {
+        if(ENABLED) {
+            histogramOf(name).recordNanos(nanos);
+        }
+    }
+
+    //Writes the latency percentiles and recent stalls to the report file
+    public static void dump() {
+        if(!ENABLED) {
+            return;
+        }
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(REPORT_FILE), StandardCharsets.UTF_8))) {
+            writeReport(out);
+            LOGGER.log(Level.INFO, "EDT report written to {0}", REPORT_FILE);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not write EDT report to " + REPORT_FILE, ex);
+        }
+    }
+
+    private static void writeReport(PrintWriter out) {
+        out.println("EDT report, " + new Date() + ", stall threshold " + STALL_NANOS / 1000000 + " ms");
+        out.println();
+        out.println(String.format(Locale.ROOT, "%-40s %8s %9s %9s %9s %9s %9s", "handler (ms)", "count", "mean", "p50", "p95", "p99", "max"));
+        synchronized (HISTOGRAMS) {
+            for(Map.Entry<String, LatencyHistogram> entry : HISTOGRAMS.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                out.println(String.format(Locale.ROOT, "%-40s %8d %9.2f %9.2f %9.2f %9.2f %9.2f", entry.getKey(),
+                        histogram.getCount(), histogram.getMeanMillis(), histogram.getPercentileMillis(50),
+                        histogram.getPercentileMillis(95), histogram.getPercentileMillis(99), histogram.getMaxMillis()));
+            }
+        }
+        List<Stall> stalls;
+        synchronized (STALLS) {
+            stalls = new ArrayList<>(STALLS);
+        }
+        out.println();
+        out.println("Last " + stalls.size() + " stalls");
+        for(Stall stall : stalls) {
+            out.println();
+            out.println(stall.time + "  " + stall.name + ", "
+                    + (stall.durationNanos > 0 ? stall.durationNanos / 1000000 + " ms" : "still running"));
+            for(StackTraceElement frame : stall.stack) {
+                out.println("\tat " + frame);
+            }
+        }
+    }
+
+    private static LatencyHistogram histogramOf(String name) {
+        synchronized (HISTOGRAMS) {
+            LatencyHistogram histogram = HISTOGRAMS.get(name);
+            if(histogram == null) {
+                histogram = new LatencyHistogram();
+                HISTOGRAMS.put(name, histogram);
+            }
+            return histogram;
+        }
+    }
+
+    //Polls the running dispatch and grabs the EDT's stack the first time the
+    //dispatch outlives the threshold
+    private static void watch() {
+        long reported = -1;
+        while(true) {
+            try {
+                Thread.sleep(Math.max(10, STALL_NANOS / 1000000 / 2));
+            } catch (InterruptedException ex) {
+                return;
+            }
+            long number = dispatchNumber;
+            long start = dispatchStart;
+            Thread thread = edt;
+            if(start == 0 || thread == null || number == reported || System.nanoTime() - start < STALL_NANOS) {
+                continue;
+            }
+            reported = number;
+            String action = currentAction;
+            Stall stall = new Stall(number, action != null ? action : dispatchName, thread.getStackTrace());
+            synchronized (STALLS) {
+                if(STALLS.size() == MAX_STALLS) {
+                    STALLS.removeFirst();
+                }
+                STALLS.addLast(stall);
+            }
+            LOGGER.log(Level.WARNING, "EDT stalled for over {0} ms in {1}", new Object[]{STALL_NANOS / 1000000, stall.name});
+        }
+    }
+
+    //Called by the EDT when a dispatch ends, to give its stall a duration
+    private static void finishStall(long number, long nanos) {
+        synchronized (STALLS) {
+            Stall last = STALLS.peekLast();
+            if(last != null && last.dispatchNumber == number) {
+                last.durationNanos = nanos;
+            }
+        }
+    }
+
+    private static String describe(AWTEvent event) {
+        Object source = event.getSource();
+        String name = event.getClass().getSimpleName();
+        if(source instanceof Component && ((Component) source).getName() != null) {
+            name += " on " + ((Component) source).getName();
+        }
+        return name;
+    }
+
+    private static class TimedEventQueue extends EventQueue {
+        //Modal loops dispatch from inside another dispatch; only the outer one is timed
+        private int depth;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            if(depth++ > 0) {
+                try {
+                    super.dispatchEvent(event);
+                } finally {
+                    depth--;
+                }
+                return;
+            }
+            long number = dispatchNumber + 1;
+            edt = Thread.currentThread();
+            dispatchName = describe(event);
+            dispatchNumber = number;
+            long start = System.nanoTime();
+            dispatchStart = start;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                dispatchStart = 0;
+                depth--;
+                histogramOf(ALL_EVENTS).recordNanos(nanos);
+                if(nanos >= STALL_NANOS) {
+                    finishStall(number, nanos);
+                }
+            }
+        }
+    }
+
+    private static class TimedActionListener implements ActionListener {
+        private final String name;
+        private final ActionListener listener;
+
+        private TimedActionListener(String name, ActionListener listener) {
+            this.name = name;
+            this.listener = listener;
+        }
+
+        @Override
+        public void actionPerformed(ActionEvent evt) {
+            String outer = currentAction;
+            currentAction = name;
+            long start = System.nanoTime();
+            try {
+                listener.actionPerformed(evt);
+            } finally {
+                histogramOf(name).recordNanos(System.nanoTime() - start);
+                currentAction = outer;
+            }
+        }
+    }
+
+    private static class Stall {
+        private final long dispatchNumber;
+        private final String name;
+        private final StackTraceElement[] stack;
+        private final Date time = new Date();
+        //Zero while the stalled dispatch is still running
+        private volatile long durationNanos;
+
+        private Stall(long dispatchNumber, String name, StackTraceElement[] stack) {
+            this.dispatchNumber = dispatchNumber;
+            this.name = name;
+            this.stack = stack;
+        }
+    }
+}
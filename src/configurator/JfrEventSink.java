@@ -0,0 +1,160 @@
+/*
+ * Developer: Jack Loss
+ * File Name: JfrEventSink.java
+ * Date: October 18, 2026
+ * Purpose: Records the configurator's diagnostic events as Java Flight Recorder
+ *          events; only loaded when jdk.jfr is available (see ConfiguratorEvents.java)
+ */
+package configurator;
+
+import java.io.File;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * @author Jack
+ */
+class JfrEventSink implements ConfiguratorEventSink {
+
+    @Override
+    public void optionChanged(String category, String oldValue, String newValue) {
+        OptionChangeEvent event = new OptionChangeEvent();
+        if(event.shouldCommit()) {
+            event.category = category;
+            event.oldValue = oldValue;
+            event.newValue = newValue;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginImageLoad() {
+        ImageLoadEvent event = new ImageLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitImageLoad(Object token, String path, String source, long bytesRead, boolean cacheHit) {
+        ImageLoadEvent event = (ImageLoadEvent) token;
+        event.end();
+        if(event.shouldCommit()) {
+            event.path = path;
+            event.source = source;
+            event.bytesRead = bytesRead;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginPriceRecompute() {
+        PriceRecomputeEvent event = new PriceRecomputeEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitPriceRecompute(Object token, int equipPrice, int totalPrice) {
+        PriceRecomputeEvent event = (PriceRecomputeEvent) token;
+        event.end();
+        if(event.shouldCommit()) {
+            event.equipPrice = equipPrice;
+            event.totalPrice = totalPrice;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginExport() {
+        ExportEvent event = new ExportEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitExport(Object token, String format, File file, boolean succeeded) {
+        ExportEvent event = (ExportEvent) token;
+        event.end();
+        if(event.shouldCommit()) {
+            event.format = format;
+            event.path = file.getPath();
+            event.bytes = succeeded ? file.length() : 0;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    @Name("configurator.OptionChange")
+    @Label("Option Change")
+    @Category({"Cayman Configurator"})
+    @Description("An option of the Cayman specification was changed")
+    @StackTrace(false)
+    static class OptionChangeEvent extends Event {
+        @Label("Category")
+        String category;
+
+        @Label("Old Value")
+        String oldValue;
+
+        @Label("New Value")
+        String newValue;
+    }
+
+    @Name("configurator.ModelImageLoad")
+    @Label("Model Image Load")
+    @Category({"Cayman Configurator", "Images"})
+    @Description("A model image was resolved and, unless it was cached, read and decoded")
+    @StackTrace(false)
+    static class ImageLoadEvent extends Event {
+        @Label("Path")
+        String path;
+
+        @Label("Source")
+        @Description("cache, pack, classpath or recolor")
+        String source;
+
+        @Label("Bytes Read")
+        @DataAmount
+        long bytesRead;
+
+        @Label("Cache Hit")
+        boolean cacheHit;
+    }
+
+    @Name("configurator.PriceRecompute")
+    @Label("Price Recompute")
+    @Category({"Cayman Configurator"})
+    @StackTrace(false)
+    static class PriceRecomputeEvent extends Event {
+        @Label("Equipment Price")
+        int equipPrice;
+
+        @Label("Total Price")
+        int totalPrice;
+    }
+
+    @Name("configurator.Export")
+    @Label("Specification Export")
+    @Category({"Cayman Configurator", "Exports"})
+    @Description("The specification was saved as a CSV or PDF file")
+    static class ExportEvent extends Event {
+        @Label("Format")
+        String format;
+
+        @Label("File")
+        String path;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytes;
+
+        @Label("Succeeded")
+        boolean succeeded;
+    }
+}
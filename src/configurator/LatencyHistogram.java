@@ -0,0 +1,79 @@
+/*
+ * Developer: Jack Loss
+ * File Name: LatencyHistogram.java
+ * Date: October 18, 2026
+ * Purpose: Counts latencies in fixed-size, log-scaled buckets so percentiles can be
+ *          reported without keeping every sample
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class LatencyHistogram {
+    //Each power of two is split into this many buckets, so a reported percentile
+    //is at most 1/16th (about 6%) above the true value
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+    //Enough buckets for anything under 2^40 microseconds (about 12 days)
+    private static final int BUCKETS = SUB_BUCKETS * (40 - SUB_BUCKET_BITS + 1);
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalMicros;
+    private long maxMicros;
+
+    public synchronized void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts[Math.min(BUCKETS - 1, bucketOf(micros))]++;
+        count++;
+        totalMicros += micros;
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMeanMillis() {
+        return count == 0 ? 0 : totalMicros / 1000.0 / count;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxMicros / 1000.0;
+    }
+
+    //Upper bound of the bucket holding the given percentile (0-100), in milliseconds
+    public synchronized double getPercentileMillis(double percentile) {
+        if(count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return Math.min(maxMicros, lowestMicrosOf(i + 1) - 1) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    //Values below 16 get a bucket each; above that, each power of two is split
+    //into 16 equal buckets
+    private static int bucketOf(long micros) {
+        if(micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long lowestMicrosOf(int bucket) {
+        if(bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Developer: Jack Loss
+ * File Name: LineItem.java
+ * Date: October 18, 2026
+ * Purpose: One priced line of a Cayman specification, from which the overview,
+ *          CSV and PDF are all rendered
+ */
+package configurator;
+
+import java.util.List;
+
+/**
+ * Prices are held in whole cents so they never go through floating point or
+ * a formatted string on their way to an export.
+ * @author Jack
+ */
+public final class LineItem {
+    public enum Category {
+        PAINT("Paint Color"),
+        WHEELS("Wheel Style"),
+        INTERIOR("Interior Color"),
+        TRANSMISSION("Transmission Type"),
+        UPGRADE("Option");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        //How the category is named in the CSV
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Category category;
+    private final String name;
+    private final long priceCents;
+
+    public LineItem(Category category, String name, long priceCents) {
+        if(priceCents < 0) {
+            throw new IllegalArgumentException("Negative price for " + name + ": " + priceCents);
+        }
+        this.category = category;
+        this.name = name;
+        this.priceCents = priceCents;
+    }
+
+    public static LineItem ofDollars(Category category, String name, int dollars) {
+        return new LineItem(category, name, dollars * 100L);
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPriceCents() {
+        return priceCents;
+    }
+
+    //The price in whole dollars; every catalogue price is a whole number of dollars
+    public int getPriceDollars() {
+        return (int) (priceCents / 100);
+    }
+
+    //"$1,790", or "$1,790.50" when there are cents, as shown on screen
+    public String getDisplayPrice() {
+        return formatPrice(priceCents, true);
+    }
+
+    //"1790", or "1790.50" when there are cents, as written to the CSV
+    public String getPlainPrice() {
+        return formatPrice(priceCents, false);
+    }
+
+    //Formats a price that is not a line item, such as a total, the same way
+    public static String toDisplayPrice(long cents) {
+        return formatPrice(cents, true);
+    }
+
+    //One name per line, for a multi-line HTML label
+    public static String toHtmlNames(List<LineItem> items) {
+        StringBuilder html = new StringBuilder(32 * items.size());
+        for(LineItem item : items) {
+            html.append(item.name).append("<br>");
+        }
+        return html.toString();
+    }
+
+    //One display price per line, in the same order as toHtmlNames
+    public static String toHtmlPrices(List<LineItem> items) {
+        StringBuilder html = new StringBuilder(12 * items.size());
+        for(LineItem item : items) {
+            html.append(item.getDisplayPrice()).append("<br>");
+        }
+        return html.toString();
+    }
+
+    //Formats by hand rather than with DecimalFormat, which is neither cheap nor
+    //safe to share between the threads that render exports
+    private static String formatPrice(long cents, boolean display) {
+        StringBuilder price = new StringBuilder(16);
+        if(display) {
+            price.append('$');
+        }
+        String dollars = Long.toString(cents / 100);
+        for(int i = 0; i < dollars.length(); i++) {
+            if(display && i > 0 && (dollars.length() - i) % 3 == 0) {
+                price.append(',');
+            }
+            price.append(dollars.charAt(i));
+        }
+        long remainder = cents % 100;
+        if(remainder != 0) {
+            price.append('.').append(remainder < 10 ? "0" : "").append(remainder);
+        }
+        return price.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(this == other) {
+            return true;
+        } if(!(other instanceof LineItem)) {
+            return false;
+        }
+        LineItem item = (LineItem) other;
+        return category == item.category && priceCents == item.priceCents && name.equals(item.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return (category.hashCode() * 31 + name.hashCode()) * 31 + Long.hashCode(priceCents);
+    }
+
+    @Override
+    public String toString() {
+        return category.getLabel() + ": " + name + " " + getDisplayPrice();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelAssetPack.java
+ * Date: October 18, 2026
+ * Purpose: Reads model images out of a single memory-mapped asset pack built by
+ *          ModelAssetPackBuilder.java
+ */
+package configurator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pack layout (big-endian). Byte-identical photos are stored once as a single
+ * blob that every path showing it points to.
+ * <pre>
+ * int   MAGIC
+ * int   VERSION
+ * int   blob count
+ * blob count times:
+ *   byte[32] SHA-256 of the blob
+ *   long     offset of the blob from the start of the file
+ *   int      length of the blob
+ * int   entry count
+ * entry count times:
+ *   short path length, path bytes (UTF-8, e.g. "images/cayman-model/miami-blue/.../ext-1.jpg")
+ *   int   blob index
+ * blob bytes
+ * </pre>
+ * @author Jack
+ */
+public class ModelAssetPack {
+    public static final int MAGIC = 0x43415950; //"CAYP"
+    public static final int VERSION = 2;
+    public static final String DEFAULT_FILE_NAME = "cayman-model.pack";
+    public static final int HASH_LENGTH = 32;
+
+    private static final Logger LOGGER = Logger.getLogger(ModelAssetPack.class.getName());
+
+    private final MappedByteBuffer buffer;
+    //Resource path -> {offset, length} of its blob
+    private final Map<String, long[]> index;
+    private final ModelImageManifest manifest;
+
+    private ModelAssetPack(MappedByteBuffer buffer, Map<String, long[]> index, ModelImageManifest manifest) {
+        this.buffer = buffer;
+        this.index = index;
+        this.manifest = manifest;
+    }
+
+    public static ModelAssetPack open(File packFile) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(packFile.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if(buffer.getInt() != MAGIC) {
+            throw new IOException(packFile + " is not a model asset pack");
+        } if(buffer.getInt() != VERSION) {
+            throw new IOException(packFile + " has an unsupported asset pack version");
+        }
+        int blobCount = buffer.getInt();
+        long[][] blobs = new long[blobCount][];
+        String[] blobHashes = new String[blobCount];
+        byte[] hash = new byte[HASH_LENGTH];
+        for(int i = 0; i < blobCount; i++) {
+            buffer.get(hash);
+            long offset = buffer.getLong();
+            int length = buffer.getInt();
+            if(offset < 0 || offset + length > buffer.capacity()) {
+                throw new IOException(packFile + " is truncated");
+            }
+            blobs[i] = new long[] {offset, length};
+            blobHashes[i] = toHex(hash);
+        }
+        int entryCount = buffer.getInt();
+        Map<String, long[]> index = new HashMap<>(entryCount * 2);
+        Map<String, String> hashes = new HashMap<>(entryCount * 2);
+        byte[] pathBytes = new byte[256];
+        for(int i = 0; i < entryCount; i++) {
+            int pathLength = buffer.getShort() & 0xFFFF;
+            if(pathLength > pathBytes.length) {
+                pathBytes = new byte[pathLength];
+            }
+            buffer.get(pathBytes, 0, pathLength);
+            int blob = buffer.getInt();
+            if(blob < 0 || blob >= blobCount) {
+                throw new IOException(packFile + " is corrupt");
+            }
+            String path = new String(pathBytes, 0, pathLength, StandardCharsets.UTF_8);
+            index.put(path, blobs[blob]);
+            hashes.put(path, blobHashes[blob]);
+        }
+        return new ModelAssetPack(buffer, index, new ModelImageManifest(hashes));
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for(byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    //Looks for the pack next to the application jar (or classes directory), unless
+    //the cayman.assetPack system property names a different file. Returns null when
+    //there is no usable pack, in which case images are read from the classpath.
+    public static ModelAssetPack openDefault() {
+        StartupTimeline.begin("asset pack");
+        try {
+            return openDefaultPack();
+        } finally {
+            StartupTimeline.end("asset pack");
+        }
+    }
+
+    private static ModelAssetPack openDefaultPack() {
+        File packFile;
+        String configured = System.getProperty("cayman.assetPack");
+        if(configured != null) {
+            packFile = new File(configured);
+        } else {
+            try {
+                File codeSource = new File(ModelAssetPack.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                packFile = new File(codeSource.getParentFile(), DEFAULT_FILE_NAME);
+            } catch (URISyntaxException | RuntimeException ex) {
+                return null;
+            }
+        }
+        if(!packFile.isFile()) {
+            return null;
+        }
+        try {
+            return open(packFile);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Ignoring unreadable model asset pack " + packFile, ex);
+            return null;
+        }
+    }
+
+    public boolean contains(String resourcePath) {
+        return index.containsKey(resourcePath);
+    }
+
+    public int getEntryCount() {
+        return index.size();
+    }
+
+    //Content hashes of every path in the pack
+    public ModelImageManifest getManifest() {
+        return manifest;
+    }
+
+    //Returns a read-only view of the image bytes straight out of the mapping, or
+    //null if the pack has no such entry
+    public ByteBuffer getBytes(String resourcePath) {
+        long[] entry = index.get(resourcePath);
+        if(entry == null) {
+            return null;
+        }
+        ByteBuffer view = buffer.asReadOnlyBuffer();
+        view.position((int) entry[0]);
+        view.limit((int) (entry[0] + entry[1]));
+        return view.slice();
+    }
+
+    public InputStream openStream(String resourcePath) {
+        ByteBuffer bytes = getBytes(resourcePath);
+        return bytes == null ? null : new ByteBufferInputStream(bytes);
+    }
+
+    //Streams a buffer without copying it first; ImageIO reads through this
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer bytes;
+
+        ByteBufferInputStream(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if(length == 0) {
+                return 0;
+            } if(!bytes.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, bytes.remaining());
+            bytes.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, bytes.remaining()));
+            bytes.position(bytes.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return bytes.remaining();
+        }
+    }
+}
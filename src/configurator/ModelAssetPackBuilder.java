@@ -0,0 +1,191 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelAssetPackBuilder.java
+ * Date: October 18, 2026
+ * Purpose: Builds the model asset pack read by ModelAssetPack.java and the content
+ *          manifest read by ModelImageManifest.java from the images/cayman-model tree
+ */
+package configurator;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Usage: ModelAssetPackBuilder &lt;cayman-model image directory&gt; &lt;output pack file&gt;
+ *        [&lt;output manifest file&gt; [&lt;built image directory to prune&gt;]]
+ * <p>
+ * The optional manifest maps each photo to a hash of its contents. When a built
+ * image directory is also given, every photo there that duplicates an earlier one
+ * is deleted, leaving a single copy of each distinct photo for runs without the
+ * pack. The jar itself ships only the default-config photos; see build.xml.
+ * @author Jack
+ */
+public class ModelAssetPackBuilder {
+    private static final String RESOURCE_PREFIX = "images/cayman-model/";
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<Integer> blobIndexes = new ArrayList<>();
+    private final List<Path> blobFiles = new ArrayList<>();
+    private final List<byte[]> blobHashes = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2 || args.length > 4) {
+            System.err.println("Usage: ModelAssetPackBuilder <cayman-model image directory> <output pack file>"
+                    + " [<output manifest file> [<built image directory to prune>]]");
+            System.exit(2);
+        }
+        ModelAssetPackBuilder builder = scan(new File(args[0]));
+        builder.writePack(new File(args[1]));
+        System.out.println("Packed " + builder.paths.size() + " model images (" + builder.blobFiles.size()
+                + " distinct) into " + args[1]);
+        if(args.length > 2) {
+            builder.writeManifest(new File(args[2]));
+        } if(args.length > 3) {
+            int pruned = builder.pruneDuplicates(new File(args[3]));
+            System.out.println("Removed " + pruned + " duplicate model images from " + args[3]);
+        }
+    }
+
+    //Hashes every .jpg under imageDirectory, keyed by the same resource path
+    //MainWindow would use to load it from the classpath
+    public static ModelAssetPackBuilder scan(File imageDirectory) throws IOException {
+        Path root = imageDirectory.toPath();
+        //Sorted by resource path, so the first path of each hash is also the
+        //canonical one ModelImageManifest picks
+        Map<String, Path> images = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> walker = files.iterator();
+            while(walker.hasNext()) {
+                Path file = walker.next();
+                if(Files.isRegularFile(file) && file.toString().endsWith(".jpg")) {
+                    images.put(RESOURCE_PREFIX + root.relativize(file).toString().replace(File.separatorChar, '/'), file);
+                }
+            }
+        }
+
+        ModelAssetPackBuilder builder = new ModelAssetPackBuilder();
+        Map<String, Integer> blobsByHash = new HashMap<>();
+        for(Map.Entry<String, Path> image : images.entrySet()) {
+            byte[] hash = sha256(Files.readAllBytes(image.getValue()));
+            String hex = ModelAssetPack.toHex(hash);
+            Integer blob = blobsByHash.get(hex);
+            if(blob == null) {
+                blob = builder.blobFiles.size();
+                blobsByHash.put(hex, blob);
+                builder.blobFiles.add(image.getValue());
+                builder.blobHashes.add(hash);
+            }
+            builder.paths.add(image.getKey());
+            builder.blobIndexes.add(blob);
+        }
+        return builder;
+    }
+
+    public int getPathCount() {
+        return paths.size();
+    }
+
+    public int getDistinctImageCount() {
+        return blobFiles.size();
+    }
+
+    public void writePack(File packFile) throws IOException {
+        List<byte[]> pathBytes = new ArrayList<>(paths.size());
+        long headerSize = 4 + 4 + 4 + (long) blobFiles.size() * (ModelAssetPack.HASH_LENGTH + 8 + 4) + 4;
+        for(String path : paths) {
+            byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+            pathBytes.add(bytes);
+            headerSize += 2 + bytes.length + 4;
+        }
+
+        makeParentDirectory(packFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(packFile)))) {
+            out.writeInt(ModelAssetPack.MAGIC);
+            out.writeInt(ModelAssetPack.VERSION);
+            out.writeInt(blobFiles.size());
+            long offset = headerSize;
+            for(int i = 0; i < blobFiles.size(); i++) {
+                long length = Files.size(blobFiles.get(i));
+                out.write(blobHashes.get(i));
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                offset += length;
+            }
+            out.writeInt(paths.size());
+            for(int i = 0; i < paths.size(); i++) {
+                out.writeShort(pathBytes.get(i).length);
+                out.write(pathBytes.get(i));
+                out.writeInt(blobIndexes.get(i));
+            }
+            for(Path blob : blobFiles) {
+                Files.copy(blob, out);
+            }
+        }
+    }
+
+    //Writes "relative/path.jpg=sha256" lines in the format ModelImageManifest reads
+    public void writeManifest(File manifestFile) throws IOException {
+        makeParentDirectory(manifestFile);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8))) {
+            writer.write("#Model image path = SHA-256 of its contents, generated by ModelAssetPackBuilder");
+            writer.newLine();
+            for(int i = 0; i < paths.size(); i++) {
+                writer.write(paths.get(i).substring(RESOURCE_PREFIX.length()));
+                writer.write("=");
+                writer.write(ModelAssetPack.toHex(blobHashes.get(blobIndexes.get(i))));
+                writer.newLine();
+            }
+        }
+    }
+
+    //Deletes every copy of a photo except the first, which is the one
+    //ModelImageManifest.canonicalPathOf() resolves to
+    public int pruneDuplicates(File builtImageDirectory) throws IOException {
+        int pruned = 0;
+        boolean[] kept = new boolean[blobFiles.size()];
+        for(int i = 0; i < paths.size(); i++) {
+            int blob = blobIndexes.get(i);
+            if(!kept[blob]) {
+                kept[blob] = true;
+                continue;
+            }
+            File duplicate = new File(builtImageDirectory, paths.get(i).substring(RESOURCE_PREFIX.length()));
+            if(Files.deleteIfExists(duplicate.toPath())) {
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    private static void makeParentDirectory(File file) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if(parent != null) {
+            parent.mkdirs();
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
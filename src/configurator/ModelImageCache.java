@@ -0,0 +1,116 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImageCache.java
+ * Date: October 18, 2026
+ * Purpose: Holds decoded model images in memory under a byte budget with LRU eviction,
+ *          keyed by content id so identical photos share one decoded copy
+ */
+package configurator;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.ImageIcon;
+
+/**
+ * @author Jack
+ */
+public class ModelImageCache {
+    private final long maxBytes;
+    private long currentBytes;
+    //Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, ImageIcon> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ModelImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized ImageIcon get(String contentId) {
+        ImageIcon icon = entries.get(contentId);
+        if(icon == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return icon;
+    }
+
+    //Looks an entry up without counting a hit or miss, for callers that have
+    //already counted the request; still marks the entry recently used
+    public synchronized ImageIcon peek(String contentId) {
+        return entries.get(contentId);
+    }
+
+    //Checks for an entry without touching the LRU order or the hit/miss counters
+    public synchronized boolean contains(String contentId) {
+        return entries.containsKey(contentId);
+    }
+
+    public synchronized void put(String contentId, ImageIcon icon) {
+        long size = sizeOf(icon);
+        if(size > maxBytes) {
+            return;
+        }
+        ImageIcon previous = entries.put(contentId, icon);
+        if(previous != null) {
+            currentBytes -= sizeOf(previous);
+        }
+        currentBytes += size;
+        Iterator<Map.Entry<String, ImageIcon>> eldest = entries.entrySet().iterator();
+        while(currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, ImageIcon> entry = eldest.next();
+            if(entry.getKey().equals(contentId)) {
+                continue;
+            }
+            currentBytes -= sizeOf(entry.getValue());
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized long getSizeInBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ModelImageCache[entries=" + getEntryCount() + ", bytes=" + getSizeInBytes() + "/" + maxBytes
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private static long sizeOf(ImageIcon icon) {
+        Image image = icon.getImage();
+        if(image instanceof BufferedImage) {
+            DataBuffer buffer = ((BufferedImage) image).getRaster().getDataBuffer();
+            return (long) buffer.getSize() * buffer.getNumBanks() * (DataBuffer.getDataTypeSize(buffer.getDataType()) / 8);
+        }
+        return 4L * icon.getIconWidth() * icon.getIconHeight();
+    }
+}
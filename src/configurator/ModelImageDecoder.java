@@ -0,0 +1,104 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImageDecoder.java
+ * Date: October 18, 2026
+ * Purpose: Decodes model images at the size they are displayed and converts them
+ *          once to the screen's native pixel format
+ */
+package configurator;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * @author Jack
+ */
+public class ModelImageDecoder {
+    private static final GraphicsConfiguration SCREEN = GraphicsEnvironment.isHeadless() ? null
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+    private ModelImageDecoder() {
+    }
+
+    //Reads the image, letting the reader skip whole rows and columns when the
+    //photo is at least twice the display size, then fits it to displaySize
+    //(null, or a size with no area, keeps the photo's own size). Returns null for
+    //unreadable data.
+    public static BufferedImage read(ImageInputStream input, Dimension displaySize) throws IOException {
+        if(input == null) {
+            return null;
+        }
+        try {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if(!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if(isUsableSize(displaySize)) {
+                    int step = Math.min(reader.getWidth(0) / Math.max(1, displaySize.width),
+                            reader.getHeight(0) / Math.max(1, displaySize.height));
+                    if(step > 1) {
+                        param.setSourceSubsampling(step, step, 0, 0);
+                    }
+                }
+                return toDisplayImage(reader.read(0, param), displaySize);
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    //Scales the image down to fit displaySize if needed and copies it into an
+    //opaque image in the screen's pixel layout, so painting it is a plain blit
+    public static BufferedImage toDisplayImage(BufferedImage image, Dimension displaySize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if(isUsableSize(displaySize) && (width > displaySize.width || height > displaySize.height)) {
+            double scale = Math.min((double) displaySize.width / width, (double) displaySize.height / height);
+            width = Math.max(1, (int) Math.round(width * scale));
+            height = Math.max(1, (int) Math.round(height * scale));
+        }
+        if(width == image.getWidth() && height == image.getHeight() && isDisplayFormat(image)) {
+            return image;
+        }
+        BufferedImage display = SCREEN != null
+                ? SCREEN.createCompatibleImage(width, height, Transparency.OPAQUE)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = display.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g2.dispose();
+        }
+        return display;
+    }
+
+    //False for null and for a size with a zero or negative side, such as an
+    //empty placeholder icon's -1x-1
+    public static boolean isUsableSize(Dimension size) {
+        return size != null && size.width > 0 && size.height > 0;
+    }
+
+    private static boolean isDisplayFormat(BufferedImage image) {
+        return SCREEN != null
+                ? image.getColorModel().equals(SCREEN.getColorModel(Transparency.OPAQUE))
+                : image.getType() == BufferedImage.TYPE_INT_RGB;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImageKey.java
+ * Date: October 18, 2026
+ * Purpose: Identifies a single model image by specification and camera angle
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public final class ModelImageKey {
+    public static final String[] ANGLES = {
+        "ext-1.jpg", "ext-2.jpg", "ext-3.jpg", "ext-4.jpg", "int-1.jpg", "int-2.jpg"
+    };
+
+    private final String extColorPath;
+    private final String wheelStylePath;
+    private final String intColorPath;
+    private final String transPath;
+    private final String angle;
+    private final int hash;
+
+    public ModelImageKey(String extColorPath, String wheelStylePath, String intColorPath,
+            String transPath, String angle) {
+        this.extColorPath = extColorPath;
+        this.wheelStylePath = wheelStylePath;
+        this.intColorPath = intColorPath;
+        this.transPath = transPath;
+        this.angle = angle;
+        int h = extColorPath.hashCode();
+        h = 31 * h + wheelStylePath.hashCode();
+        h = 31 * h + intColorPath.hashCode();
+        h = 31 * h + transPath.hashCode();
+        h = 31 * h + angle.hashCode();
+        this.hash = h;
+    }
+
+    public static ModelImageKey of(Cayman cayman, String angle) {
+        return new ModelImageKey(cayman.getExtColorPath(), cayman.getWheelStylePath(),
+                cayman.getIntColorPath(), cayman.getTransPath(), angle);
+    }
+
+    public static ModelImageKey of(CaymanSnapshot snapshot, String angle) {
+        return new ModelImageKey(snapshot.getExtColorPath(), snapshot.getWheelStylePath(),
+                snapshot.getIntColorPath(), snapshot.getTransPath(), angle);
+    }
+
+    public String getExtColorPath() {
+        return extColorPath;
+    }
+
+    public String getWheelStylePath() {
+        return wheelStylePath;
+    }
+
+    public String getIntColorPath() {
+        return intColorPath;
+    }
+
+    public String getTransPath() {
+        return transPath;
+    }
+
+    public String getAngle() {
+        return angle;
+    }
+
+    public ModelImageKey withAngle(String otherAngle) {
+        return new ModelImageKey(extColorPath, wheelStylePath, intColorPath, transPath, otherAngle);
+    }
+
+    //True when both keys show the same specification, whatever the camera angle
+    public boolean sameSpecificationAs(ModelImageKey other) {
+        return extColorPath.equals(other.extColorPath)
+                && wheelStylePath.equals(other.wheelStylePath)
+                && intColorPath.equals(other.intColorPath)
+                && transPath.equals(other.transPath);
+    }
+
+    //Builds the classpath location of the image, relative to MainWindow.class
+    public String getResourcePath() {
+        StringBuilder path = new StringBuilder(70);
+        path.append("images/cayman-model/");
+        path.append(extColorPath);
+        path.append("/");
+        path.append(wheelStylePath);
+        path.append("/");
+        path.append(intColorPath);
+        path.append("/");
+        path.append(transPath);
+        path.append("/");
+        path.append(angle);
+        return path.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(this == other) {
+            return true;
+        } if(!(other instanceof ModelImageKey)) {
+            return false;
+        }
+        ModelImageKey key = (ModelImageKey) other;
+        return hash == key.hash
+                && angle.equals(key.angle)
+                && extColorPath.equals(key.extColorPath)
+                && wheelStylePath.equals(key.wheelStylePath)
+                && intColorPath.equals(key.intColorPath)
+                && transPath.equals(key.transPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getResourcePath();
+    }
+}
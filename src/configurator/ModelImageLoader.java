@@ -0,0 +1,269 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImageLoader.java
+ * Date: October 18, 2026
+ * Purpose: Loads and decodes model images off the Event Dispatch Thread for the
+ *          configurator GUI (MainWindow.java)
+ */
+package configurator;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+
+/**
+ * @author Jack
+ */
+public class ModelImageLoader {
+    private static final Logger LOGGER = Logger.getLogger(ModelImageLoader.class.getName());
+    //The main and overview windows' model display, which every photo is made for
+    public static final Dimension DISPLAY_SIZE = new Dimension(360, 203);
+    private static final int DECODE_THREADS = Math.max(2, Math.min(3, Runtime.getRuntime().availableProcessors()));
+
+    private final Class<?> resourceBase;
+    private final ModelImageCache cache;
+    private final ModelAssetPack assetPack;
+    private final ModelImageManifest manifest;
+    private final PaintRecolorRenderer recolorRenderer;
+    private final ExecutorService decodeExecutor;
+    //Most recently requested image for each display label
+    private final Map<JLabel, ModelImageKey> latestRequests = new ConcurrentHashMap<>();
+    //Display loads still waiting for a decoder thread; only touched on the EDT
+    private final Map<JLabel, Future<?>> pendingLoads = new HashMap<>();
+    //Decodes currently running by content id, so two callers never decode the same image twice
+    private final Map<String, FutureTask<ImageIcon>> inFlight = new ConcurrentHashMap<>();
+    //Angle preloads queued for the last specification; only touched on the EDT
+    private final List<Future<?>> pendingPreloads = new ArrayList<>();
+    private ModelImageKey lastPreloaded;
+    //Size of the model display labels; null decodes photos at their own size
+    private volatile Dimension displaySize;
+
+    public ModelImageLoader(Class<?> resourceBase, ModelImageCache cache, ModelAssetPack assetPack) {
+        this.resourceBase = resourceBase;
+        this.cache = cache;
+        this.assetPack = assetPack;
+        this.manifest = assetPack != null ? assetPack.getManifest() : ModelImageManifest.load(resourceBase);
+        this.recolorRenderer = new PaintRecolorRenderer(resourceBase, assetPack);
+        this.decodeExecutor = Executors.newFixedThreadPool(DECODE_THREADS, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "model-image-decoder-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    public ModelImageCache getCache() {
+        return cache;
+    }
+
+    //Images are decoded to fit this size. Both display labels share the cache, so
+    //they are expected to be the same size. Null, or a size with no area, keeps
+    //the photos at their own size.
+    public void setDisplaySize(Dimension displaySize) {
+        if(displaySize != null && !ModelImageDecoder.isUsableSize(displaySize)) {
+            LOGGER.log(Level.WARNING, "Ignoring display size {0}x{1}; decoding at full size",
+                    new Object[]{displaySize.width, displaySize.height});
+            displaySize = null;
+        }
+        this.displaySize = displaySize == null ? null : new Dimension(displaySize);
+    }
+
+    //Shows a cached image right away; otherwise resolves and decodes it in the
+    //background, then swaps it onto the target label. The label keeps showing its
+    //previous image until then. Latest request wins: a load for the same label
+    //that has not started yet is cancelled, and a stale result is never shown.
+    public void load(final ModelImageKey key, final JLabel target) {
+        latestRequests.put(target, key);
+        Future<?> stale = pendingLoads.remove(target);
+        if(stale != null) {
+            stale.cancel(false);
+        }
+        Object loadEvent = ConfiguratorEvents.beginImageLoad();
+        ImageIcon cached = cache.get(contentIdOf(key));
+        if(cached != null) {
+            target.setIcon(cached);
+            ConfiguratorEvents.commitImageLoad(loadEvent, key.getResourcePath(), "cache", 0, true);
+            return;
+        }
+        pendingLoads.put(target, decodeExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                if(!key.equals(latestRequests.get(target))) {
+                    return;
+                }
+                //load() has counted this request already; another load may have
+                //decoded the image since, so look again without counting it twice
+                ImageIcon decoded = cache.peek(contentIdOf(key));
+                final ImageIcon icon = decoded != null ? decoded : decodeOnce(key);
+                if(icon == null) {
+                    return;
+                }
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        if(key.equals(latestRequests.get(target))) {
+                            pendingLoads.remove(target);
+                            target.setIcon(icon);
+                        }
+                    }
+                });
+            }
+        }));
+    }
+
+    //Queues the other five camera angles of the key's specification behind the
+    //visible one, so paging through angles never has to wait on a decode. Call
+    //after load() so the visible angle is first in line.
+    public void preloadAngles(ModelImageKey visible) {
+        if(lastPreloaded != null && lastPreloaded.sameSpecificationAs(visible)) {
+            return;
+        }
+        lastPreloaded = visible;
+        for(Future<?> preload : pendingPreloads) {
+            preload.cancel(false);
+        }
+        pendingPreloads.clear();
+        for(String angle : ModelImageKey.ANGLES) {
+            final ModelImageKey angleKey = visible.withAngle(angle);
+            if(angle.equals(visible.getAngle()) || isCached(angleKey)) {
+                continue;
+            }
+            pendingPreloads.add(decodeExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    prefetch(angleKey);
+                }
+            }));
+        }
+    }
+
+    //Photos that are byte-identical share one content id, and so one cache entry
+    public String contentIdOf(ModelImageKey key) {
+        return manifest.contentIdOf(key.getResourcePath());
+    }
+
+    public boolean isCached(ModelImageKey key) {
+        return cache.contains(contentIdOf(key));
+    }
+
+    //Returns the cached image for the key, decoding and caching it on a miss
+    ImageIcon getOrDecode(ModelImageKey key) {
+        ImageIcon icon = cache.get(contentIdOf(key));
+        return icon != null ? icon : decodeOnce(key);
+    }
+
+    //Decodes an image into the cache without counting towards its hit/miss stats
+    void prefetch(ModelImageKey key) {
+        if(!isCached(key)) {
+            decodeOnce(key);
+        }
+    }
+
+    //Decodes the key on the calling thread, or waits for the thread already
+    //decoding the same content
+    private ImageIcon decodeOnce(final ModelImageKey key) {
+        final String contentId = contentIdOf(key);
+        FutureTask<ImageIcon> task = new FutureTask<>(new Callable<ImageIcon>() {
+            @Override
+            public ImageIcon call() {
+                ImageIcon icon = decode(key);
+                if(icon != null) {
+                    cache.put(contentId, icon);
+                }
+                return icon;
+            }
+        });
+        FutureTask<ImageIcon> running = inFlight.putIfAbsent(contentId, task);
+        if(running == null) {
+            running = task;
+            try {
+                task.run();
+            } finally {
+                inFlight.remove(contentId, task);
+            }
+        }
+        try {
+            return running.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | CancellationException ex) {
+            LOGGER.log(Level.SEVERE, null, ex);
+            return null;
+        }
+    }
+
+    //Reads the photo straight from the asset pack's mapping when a pack is
+    //installed, otherwise from the single copy of the photo kept in the jar. A paint
+    //with no photos at all is recoloured from the base paint's photo. Either way
+    //the result is sized and converted for display exactly once, here.
+    private ImageIcon decode(ModelImageKey key) {
+        String resourcePath = key.getResourcePath();
+        Dimension size = displaySize;
+        Object loadEvent = ConfiguratorEvents.beginImageLoad();
+        String source = "none";
+        long bytesRead = 0;
+        try {
+            BufferedImage image;
+            if(assetPack != null && assetPack.contains(resourcePath)) {
+                source = "pack";
+                bytesRead = assetPack.getBytes(resourcePath).remaining();
+                image = ModelImageDecoder.read(new MemoryCacheImageInputStream(assetPack.openStream(resourcePath)), size);
+            } else {
+                URL imageURL = resourceBase.getResource(manifest.canonicalPathOf(resourcePath));
+                if(imageURL != null) {
+                    source = "classpath";
+                    URLConnection connection = imageURL.openConnection();
+                    bytesRead = connection.getContentLengthLong();
+                    try (InputStream stream = connection.getInputStream()) {
+                        image = ModelImageDecoder.read(new MemoryCacheImageInputStream(stream), size);
+                    }
+                } else if(recolorRenderer.canRender(key)) {
+                    //No photo in this paint; repaint the base photo instead
+                    source = "recolor";
+                    image = toDisplayImage(recolorRenderer.render(key), size);
+                } else {
+                    LOGGER.log(Level.WARNING, "Model image not found: {0}", key);
+                    return null;
+                }
+            }
+            return image == null ? null : new ImageIcon(image);
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, null, ex);
+            return null;
+        } finally {
+            ConfiguratorEvents.commitImageLoad(loadEvent, resourcePath, source, Math.max(0, bytesRead), false);
+        }
+    }
+
+    private static BufferedImage toDisplayImage(BufferedImage image, Dimension size) {
+        return image == null ? null : ModelImageDecoder.toDisplayImage(image, size);
+    }
+}
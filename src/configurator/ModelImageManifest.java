@@ -0,0 +1,87 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImageManifest.java
+ * Date: October 18, 2026
+ * Purpose: Maps each model-image resource path to the hash of its contents, so
+ *          byte-identical photos are stored, decoded and cached only once
+ */
+package configurator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @author Jack
+ */
+public class ModelImageManifest {
+    //Written next to the photos in the built jar by ModelAssetPackBuilder
+    public static final String RESOURCE_PATH = "images/cayman-model/manifest.properties";
+
+    private static final Logger LOGGER = Logger.getLogger(ModelImageManifest.class.getName());
+    private static final ModelImageManifest EMPTY = new ModelImageManifest(Collections.<String, String>emptyMap());
+
+    private final Map<String, String> hashes;
+    private final Map<String, String> canonicalPaths;
+
+    //Takes resource path -> content hash; the alphabetically first path of each
+    //hash is the copy the others are served from
+    public ModelImageManifest(Map<String, String> hashes) {
+        this.hashes = hashes;
+        this.canonicalPaths = new HashMap<>();
+        for(Map.Entry<String, String> entry : hashes.entrySet()) {
+            String canonical = canonicalPaths.get(entry.getValue());
+            if(canonical == null || entry.getKey().compareTo(canonical) < 0) {
+                canonicalPaths.put(entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    //Reads the manifest from the classpath; without one every path is its own content
+    public static ModelImageManifest load(Class<?> resourceBase) {
+        InputStream stream = resourceBase.getResourceAsStream(RESOURCE_PATH);
+        if(stream == null) {
+            return EMPTY;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Ignoring unreadable model image manifest", ex);
+            return EMPTY;
+        }
+        Map<String, String> hashes = new HashMap<>(properties.size() * 2);
+        for(String path : properties.stringPropertyNames()) {
+            hashes.put("images/cayman-model/" + path, properties.getProperty(path));
+        }
+        return new ModelImageManifest(hashes);
+    }
+
+    //Identity of the image's contents; used as the decoded-image cache key
+    public String contentIdOf(String resourcePath) {
+        String hash = hashes.get(resourcePath);
+        return hash != null ? hash : resourcePath;
+    }
+
+    //The one path that actually holds bytes identical to resourcePath
+    public String canonicalPathOf(String resourcePath) {
+        String hash = hashes.get(resourcePath);
+        return hash != null ? canonicalPaths.get(hash) : resourcePath;
+    }
+
+    public int getPathCount() {
+        return hashes.size();
+    }
+
+    public int getUniqueImageCount() {
+        return canonicalPaths.size();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Developer: Jack Loss
+ * File Name: ModelImagePrefetcher.java
+ * Date: October 18, 2026
+ * Purpose: Decodes the model images one click away from the current specification
+ *          into the image cache ahead of time
+ */
+package configurator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * @author Jack
+ */
+public class ModelImagePrefetcher {
+    private final ModelImageLoader loader;
+    private final ExecutorService prefetchExecutor;
+    //Prefetches queued for the last specification; only touched on the EDT
+    private final List<Future<?>> pendingPrefetches = new ArrayList<>();
+
+    public ModelImagePrefetcher(ModelImageLoader loader) {
+        this.loader = loader;
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "model-image-prefetcher");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+    }
+
+    //Drops whatever is still queued for the previous specification and starts
+    //decoding every one-click neighbour of the current one at the same angle
+    public void prefetchNeighbours(ModelImageKey current) {
+        cancelPending();
+        for(final ModelImageKey neighbour : neighboursOf(current)) {
+            if(loader.isCached(neighbour)) {
+                continue;
+            }
+            pendingPrefetches.add(prefetchExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    if(!Thread.currentThread().isInterrupted()) {
+                        loader.prefetch(neighbour);
+                    }
+                }
+            }));
+        }
+    }
+
+    public void cancelPending() {
+        for(Future<?> prefetch : pendingPrefetches) {
+            prefetch.cancel(false);
+        }
+        pendingPrefetches.clear();
+    }
+
+    //Every specification reachable with a single paint, wheel, interior or
+    //transmission click, at the given key's camera angle
+    static List<ModelImageKey> neighboursOf(ModelImageKey key) {
+        List<ModelImageKey> neighbours = new ArrayList<>();
+        for(String extColorPath : Cayman.EXT_COLOR_PATHS) {
+            if(!extColorPath.equals(key.getExtColorPath())) {
+                neighbours.add(new ModelImageKey(extColorPath, key.getWheelStylePath(),
+                        key.getIntColorPath(), key.getTransPath(), key.getAngle()));
+            }
+        }
+        for(String wheelStylePath : Cayman.WHEEL_STYLE_PATHS) {
+            if(!wheelStylePath.equals(key.getWheelStylePath())) {
+                neighbours.add(new ModelImageKey(key.getExtColorPath(), wheelStylePath,
+                        key.getIntColorPath(), key.getTransPath(), key.getAngle()));
+            }
+        }
+        for(String intColorPath : Cayman.INT_COLOR_PATHS) {
+            if(!intColorPath.equals(key.getIntColorPath())) {
+                neighbours.add(new ModelImageKey(key.getExtColorPath(), key.getWheelStylePath(),
+                        intColorPath, key.getTransPath(), key.getAngle()));
+            }
+        }
+        for(String transPath : Cayman.TRANS_PATHS) {
+            if(!transPath.equals(key.getTransPath())) {
+                neighbours.add(new ModelImageKey(key.getExtColorPath(), key.getWheelStylePath(),
+                        key.getIntColorPath(), transPath, key.getAngle()));
+            }
+        }
+        return neighbours;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Developer: Jack Loss
+ * File Name: OptionCatalogue.java
+ * Date: October 18, 2026
+ * Purpose: Loads the names, image paths and prices of every Cayman option from
+ *          option-catalogue.txt, so prices can change without touching the code
+ */
+package configurator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The choices of each category are numbered in catalogue order; that ordinal
+ * indexes the price, name and path tables and is what ConfigurationKey packs.
+ * A loaded catalogue never changes.
+ * @author Jack
+ */
+public final class OptionCatalogue {
+    //Read from next to this class on the classpath, unless -Dcayman.catalogue=<file>
+    //points at another copy
+    public static final String RESOURCE_PATH = "option-catalogue.txt";
+
+    private static final int CATEGORIES = LineItem.Category.values().length;
+
+    private final int basePrice;
+    private final int deliveryPrice;
+    //Tables indexed by [category.ordinal()][choice ordinal]
+    private final String[][] paths = new String[CATEGORIES][];
+    private final String[][] names = new String[CATEGORIES][];
+    private final int[][] prices = new int[CATEGORIES][];
+    //One line item per choice, shared by every Cayman that picks it
+    private final LineItem[][] lineItems = new LineItem[CATEGORIES][];
+    //sRGB body colour of each paint, by paint ordinal (see PaintRecolorRenderer)
+    private final int[] paintColors;
+
+    private OptionCatalogue(int basePrice, int deliveryPrice, Map<LineItem.Category, List<String[]>> entries) {
+        this.basePrice = basePrice;
+        this.deliveryPrice = deliveryPrice;
+        paintColors = new int[entries.get(LineItem.Category.PAINT).size()];
+        for(LineItem.Category category : LineItem.Category.values()) {
+            List<String[]> categoryEntries = entries.get(category);
+            if(categoryEntries.isEmpty() || categoryEntries.size() > (category == LineItem.Category.UPGRADE
+                    ? ConfigurationKey.MAX_UPGRADES : ConfigurationKey.MAX_CHOICES)) {
+                throw new IllegalStateException("Catalogue has " + categoryEntries.size() + " " + category + " entries");
+            }
+            String[] categoryPaths = new String[categoryEntries.size()];
+            String[] categoryNames = new String[categoryEntries.size()];
+            int[] categoryPrices = new int[categoryEntries.size()];
+            LineItem[] categoryItems = new LineItem[categoryEntries.size()];
+            for(int i = 0; i < categoryPaths.length; i++) {
+                String[] entry = categoryEntries.get(i);
+                categoryPaths[i] = entry[0];
+                categoryPrices[i] = Integer.parseInt(entry[1]);
+                categoryNames[i] = entry[2];
+                categoryItems[i] = LineItem.ofDollars(category, categoryNames[i], categoryPrices[i]);
+                if(category == LineItem.Category.PAINT) {
+                    paintColors[i] = Integer.parseInt(entry[3], 16);
+                }
+            }
+            paths[category.ordinal()] = categoryPaths;
+            names[category.ordinal()] = categoryNames;
+            prices[category.ordinal()] = categoryPrices;
+            lineItems[category.ordinal()] = categoryItems;
+        }
+    }
+
+    //The catalogue the application runs with, loaded on first use
+    public static OptionCatalogue getDefault() {
+        return DefaultHolder.CATALOGUE;
+    }
+
+    public static OptionCatalogue load(InputStream stream) throws IOException {
+        Map<LineItem.Category, List<String[]>> entries = new EnumMap<>(LineItem.Category.class);
+        for(LineItem.Category category : LineItem.Category.values()) {
+            entries.put(category, new ArrayList<String[]>());
+        }
+        int basePrice = -1;
+        int deliveryPrice = -1;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if(line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            //<section> <path> <price> <name, which may contain spaces>, and for
+            //paints <section> <path> <price> #<rrggbb> <name>
+            boolean paint = line.split("\\s+", 2)[0].equals("paint");
+            String[] fields = line.split("\\s+", paint ? 5 : 4);
+            if(fields.length < (paint ? 5 : 4)) {
+                throw new IOException("Catalogue line " + lineNumber + " is incomplete: " + line);
+            } if(paint && !fields[3].matches("#[0-9A-Fa-f]{6}")) {
+                throw new IOException("Catalogue line " + lineNumber + " has a bad colour: " + fields[3]);
+            }
+            int price;
+            try {
+                price = Integer.parseInt(fields[2]);
+            } catch (NumberFormatException ex) {
+                throw new IOException("Catalogue line " + lineNumber + " has a bad price: " + fields[2]);
+            }
+            if(price < 0) {
+                throw new IOException("Catalogue line " + lineNumber + " has a negative price");
+            }
+            if(fields[0].equals("base")) {
+                basePrice = price;
+            } else if(fields[0].equals("delivery")) {
+                deliveryPrice = price;
+            } else {
+                LineItem.Category category = categoryOf(fields[0]);
+                if(category == null) {
+                    throw new IOException("Catalogue line " + lineNumber + " has an unknown section: " + fields[0]);
+                }
+                entries.get(category).add(paint ? new String[]{fields[1], fields[2], fields[4], fields[3].substring(1)}
+                        : new String[]{fields[1], fields[2], fields[3]});
+            }
+        }
+        if(basePrice < 0 || deliveryPrice < 0) {
+            throw new IOException("Catalogue is missing the base or delivery price");
+        }
+        try {
+            return new OptionCatalogue(basePrice, deliveryPrice, entries);
+        } catch (IllegalStateException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+    }
+
+    public int getBasePrice() {
+        return basePrice;
+    }
+
+    public int getDeliveryPrice() {
+        return deliveryPrice;
+    }
+
+    public int getCount(LineItem.Category category) {
+        return prices[category.ordinal()].length;
+    }
+
+    public int getPrice(LineItem.Category category, int ordinal) {
+        return prices[category.ordinal()][ordinal];
+    }
+
+    public String getName(LineItem.Category category, int ordinal) {
+        return names[category.ordinal()][ordinal];
+    }
+
+    public String getPath(LineItem.Category category, int ordinal) {
+        return paths[category.ordinal()][ordinal];
+    }
+
+    public LineItem getLineItem(LineItem.Category category, int ordinal) {
+        return lineItems[category.ordinal()][ordinal];
+    }
+
+    //The painted body's colour as 0xRRGGBB
+    public int getPaintColor(int ordinal) {
+        return paintColors[ordinal];
+    }
+
+    //The whole price table of a category, indexed by ordinal; a copy
+    public int[] getPrices(LineItem.Category category) {
+        return prices[category.ordinal()].clone();
+    }
+
+    public String[] getNames(LineItem.Category category) {
+        return names[category.ordinal()].clone();
+    }
+
+    public String[] getPaths(LineItem.Category category) {
+        return paths[category.ordinal()].clone();
+    }
+
+    //Ordinal of the choice with the given path, or -1
+    public int ordinalOf(LineItem.Category category, String path) {
+        String[] categoryPaths = paths[category.ordinal()];
+        for(int i = 0; i < categoryPaths.length; i++) {
+            if(categoryPaths[i].equals(path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static LineItem.Category categoryOf(String section) {
+        if(section.equals("paint")) {
+            return LineItem.Category.PAINT;
+        } else if(section.equals("wheels")) {
+            return LineItem.Category.WHEELS;
+        } else if(section.equals("interior")) {
+            return LineItem.Category.INTERIOR;
+        } else if(section.equals("transmission")) {
+            return LineItem.Category.TRANSMISSION;
+        } else if(section.equals("upgrade")) {
+            return LineItem.Category.UPGRADE;
+        }
+        return null;
+    }
+
+    private static OptionCatalogue loadDefault() {
+        String configured = System.getProperty("cayman.catalogue");
+        try {
+            InputStream stream = configured != null
+                    ? new FileInputStream(new File(configured))
+                    : OptionCatalogue.class.getResourceAsStream(RESOURCE_PATH);
+            if(stream == null) {
+                throw new IllegalStateException("Option catalogue " + RESOURCE_PATH + " is not on the classpath");
+            }
+            try {
+                return load(stream);
+            } finally {
+                stream.close();
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot load the option catalogue from "
+                    + (configured != null ? configured : RESOURCE_PATH), ex);
+        }
+    }
+
+    //Loaded by the first getDefault() call, which the JVM makes thread-safe
+    private static class DefaultHolder {
+        private static final OptionCatalogue CATALOGUE = loadDefault();
+    }
+}
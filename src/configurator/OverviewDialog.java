@@ -0,0 +1,539 @@
+/*
+ * Developer: Jack Loss
+ * File Name: OverviewDialog.java
+ * Date: October 18, 2026
+ * Purpose: The "Your Specification Summary" window of the configurator GUI
+ *          (MainWindow.java)
+ */
+package configurator;
+
+/**
+ * Laid out in the form editor. MainWindow creates it the first time it is
+ * needed and fills in its rows, so its components are package-private.
+ * @author Jack
+ */
+public class OverviewDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+    private final MainWindow mainWindow;
+
+    //Has no owner, like the other configurator dialogs
+    public OverviewDialog(MainWindow mainWindow) {
+        this.mainWindow = mainWindow;
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        overviewImageSelectorGroup = new javax.swing.ButtonGroup();
+        overviewCaymanTitleLabel = new javax.swing.JLabel();
+        overviewCaymanDisplayLabel = new javax.swing.JLabel();
+        overviewImageSelect1Radio = new javax.swing.JRadioButton();
+        overviewImageSelect2Radio = new javax.swing.JRadioButton();
+        overviewImageSelect3Radio = new javax.swing.JRadioButton();
+        overviewImageSelect4Radio = new javax.swing.JRadioButton();
+        overviewImageSelect5Radio = new javax.swing.JRadioButton();
+        overviewImageSelect6Radio = new javax.swing.JRadioButton();
+        overviewBasePriceTitleLabel = new javax.swing.JLabel();
+        overviewBasePriceDollarLabel = new javax.swing.JLabel();
+        overviewEquipPriceTitleLabel = new javax.swing.JLabel();
+        overviewEquipPriceDollarLabel = new javax.swing.JLabel();
+        overviewDeliverPriceTitleLabel = new javax.swing.JLabel();
+        overviewDeliverPriceDollarLabel = new javax.swing.JLabel();
+        overviewTotalPriceTitleLabel = new javax.swing.JLabel();
+        overviewTotalPriceDollarLabel = new javax.swing.JLabel();
+        overviewGrayDescriptionPanel = new javax.swing.JPanel();
+        descriptionLabel = new javax.swing.JLabel();
+        priceLabel = new javax.swing.JLabel();
+        overviewDescriptionPaintSeparator = new javax.swing.JSeparator();
+        overviewExtColorTitleLabel = new javax.swing.JLabel();
+        overviewPaintColorNameLabel = new javax.swing.JLabel();
+        overviewPaintColorPriceLabel = new javax.swing.JLabel();
+        overviewPaintWheelSeparator = new javax.swing.JSeparator();
+        overviewWheelStyleTitleLabel = new javax.swing.JLabel();
+        overviewWheelStyleNameLabel = new javax.swing.JLabel();
+        overviewWheelStylePriceLabel = new javax.swing.JLabel();
+        overviewWheelLeatherSeparator = new javax.swing.JSeparator();
+        overviewIntColorTitleLabel = new javax.swing.JLabel();
+        overviewLeatherColorNameLabel = new javax.swing.JLabel();
+        overviewLeatherColorPriceLabel = new javax.swing.JLabel();
+        overviewLeatherTransSeparator = new javax.swing.JSeparator();
+        overviewTransTitleLabel = new javax.swing.JLabel();
+        overviewTransNameLabel = new javax.swing.JLabel();
+        overviewTransPriceLabel = new javax.swing.JLabel();
+        overviewTransUpgradesSeparator = new javax.swing.JSeparator();
+        overviewAddUpgradesTitleLabel = new javax.swing.JLabel();
+        overviewAddUpgradesNameLabel = new javax.swing.JLabel();
+        overviewAddUpgradesPriceLabel = new javax.swing.JLabel();
+        overviewUpgradesButtonsSeparator = new javax.swing.JSeparator();
+        saveAsPDFButton = new javax.swing.JButton();
+        saveAsCSVButton = new javax.swing.JButton();
+        cancelButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Your Specification Summary");
+        setIconImage(null);
+        setResizable(false);
+        setSize(new java.awt.Dimension(1100, 630));
+
+        overviewCaymanTitleLabel.setFont(new java.awt.Font("Verdana", 1, 24)); // NOI18N
+        overviewCaymanTitleLabel.setText("2018 Porsche 718 Cayman S");
+
+        overviewCaymanDisplayLabel.setIcon(UiIcons.get("/configurator/images/cayman-model/default-config/ext-1.jpg"));
+
+        overviewImageSelectorGroup.add(overviewImageSelect1Radio);
+        overviewImageSelect1Radio.setSelected(true);
+        overviewImageSelect1Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect1Radio.setRolloverEnabled(false);
+        overviewImageSelect1Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect1Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect1RadioActionPerformed(evt);
+            }
+        });
+
+        overviewImageSelectorGroup.add(overviewImageSelect2Radio);
+        overviewImageSelect2Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect2Radio.setRolloverEnabled(false);
+        overviewImageSelect2Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect2Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect2RadioActionPerformed(evt);
+            }
+        });
+
+        overviewImageSelectorGroup.add(overviewImageSelect3Radio);
+        overviewImageSelect3Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect3Radio.setRolloverEnabled(false);
+        overviewImageSelect3Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect3Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect3RadioActionPerformed(evt);
+            }
+        });
+
+        overviewImageSelectorGroup.add(overviewImageSelect4Radio);
+        overviewImageSelect4Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect4Radio.setRolloverEnabled(false);
+        overviewImageSelect4Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect4Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect4RadioActionPerformed(evt);
+            }
+        });
+
+        overviewImageSelectorGroup.add(overviewImageSelect5Radio);
+        overviewImageSelect5Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect5Radio.setRolloverEnabled(false);
+        overviewImageSelect5Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect5Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect5RadioActionPerformed(evt);
+            }
+        });
+
+        overviewImageSelectorGroup.add(overviewImageSelect6Radio);
+        overviewImageSelect6Radio.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-deselected.png"));
+        overviewImageSelect6Radio.setRolloverEnabled(false);
+        overviewImageSelect6Radio.setSelectedIcon(UiIcons.get("/configurator/images/ui-items/buttons/image-select-radio-selected.png"));
+        overviewImageSelect6Radio.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                overviewImageSelect6RadioActionPerformed(evt);
+            }
+        });
+
+        overviewBasePriceTitleLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewBasePriceTitleLabel.setText("Base Price:");
+
+        overviewBasePriceDollarLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewBasePriceDollarLabel.setText("$67,700");
+
+        overviewEquipPriceTitleLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewEquipPriceTitleLabel.setText("Price for Equipment:");
+
+        overviewEquipPriceDollarLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewEquipPriceDollarLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewEquipPriceDollarLabel.setText("$0");
+        overviewEquipPriceDollarLabel.setAutoscrolls(true);
+
+        overviewDeliverPriceTitleLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewDeliverPriceTitleLabel.setText("Delivery, Processing, and Handling Fee:");
+
+        overviewDeliverPriceDollarLabel.setFont(new java.awt.Font("Verdana", 0, 12)); // NOI18N
+        overviewDeliverPriceDollarLabel.setText("$1,050");
+
+        overviewTotalPriceTitleLabel.setFont(new java.awt.Font("Verdana", 1, 12)); // NOI18N
+        overviewTotalPriceTitleLabel.setText("Total Price:");
+
+        overviewTotalPriceDollarLabel.setFont(new java.awt.Font("Verdana", 1, 12)); // NOI18N
+        overviewTotalPriceDollarLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewTotalPriceDollarLabel.setText("$68,750");
+
+        descriptionLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        descriptionLabel.setText("Description");
+
+        priceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        priceLabel.setText("Price");
+
+        javax.swing.GroupLayout overviewGrayDescriptionPanelLayout = new javax.swing.GroupLayout(overviewGrayDescriptionPanel);
+        overviewGrayDescriptionPanel.setLayout(overviewGrayDescriptionPanelLayout);
+        overviewGrayDescriptionPanelLayout.setHorizontalGroup(
+            overviewGrayDescriptionPanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(overviewGrayDescriptionPanelLayout.createSequentialGroup()
+                .addGap(23, 23, 23)
+                .addComponent(descriptionLabel)
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 299, Short.MAX_VALUE)
+                .addComponent(priceLabel)
+                .addGap(36, 36, 36))
+        );
+        overviewGrayDescriptionPanelLayout.setVerticalGroup(
+            overviewGrayDescriptionPanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(overviewGrayDescriptionPanelLayout.createSequentialGroup()
+                .addGap(8, 8, 8)
+                .addGroup(overviewGrayDescriptionPanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(descriptionLabel)
+                    .addComponent(priceLabel))
+                .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
+        );
+
+        overviewExtColorTitleLabel.setFont(new java.awt.Font("Verdana", 1, 14)); // NOI18N
+        overviewExtColorTitleLabel.setText("Exterior Color");
+
+        overviewPaintColorNameLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewPaintColorNameLabel.setText("Guards Red");
+
+        overviewPaintColorPriceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewPaintColorPriceLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewPaintColorPriceLabel.setText("$0");
+
+        overviewWheelStyleTitleLabel.setFont(new java.awt.Font("Verdana", 1, 14)); // NOI18N
+        overviewWheelStyleTitleLabel.setText("Wheel Style");
+
+        overviewWheelStyleNameLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewWheelStyleNameLabel.setText("19\" Cayman S Wheels");
+
+        overviewWheelStylePriceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewWheelStylePriceLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewWheelStylePriceLabel.setText("$0");
+
+        overviewIntColorTitleLabel.setFont(new java.awt.Font("Verdana", 1, 14)); // NOI18N
+        overviewIntColorTitleLabel.setText("Interior Color");
+
+        overviewLeatherColorNameLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewLeatherColorNameLabel.setText("Standard Black Interior");
+
+        overviewLeatherColorPriceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewLeatherColorPriceLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewLeatherColorPriceLabel.setText("$0");
+
+        overviewTransTitleLabel.setFont(new java.awt.Font("Verdana", 1, 14)); // NOI18N
+        overviewTransTitleLabel.setText("Transmission");
+
+        overviewTransNameLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewTransNameLabel.setText("Manual");
+
+        overviewTransPriceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewTransPriceLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewTransPriceLabel.setText("$0");
+
+        overviewAddUpgradesTitleLabel.setFont(new java.awt.Font("Verdana", 1, 14)); // NOI18N
+        overviewAddUpgradesTitleLabel.setText("Additional Upgrades");
+
+        overviewAddUpgradesNameLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewAddUpgradesNameLabel.setText("N/A");
+        overviewAddUpgradesNameLabel.setVerticalAlignment(javax.swing.SwingConstants.TOP);
+
+        overviewAddUpgradesPriceLabel.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        overviewAddUpgradesPriceLabel.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+        overviewAddUpgradesPriceLabel.setText("N/A");
+        overviewAddUpgradesPriceLabel.setVerticalAlignment(javax.swing.SwingConstants.TOP);
+
+        saveAsPDFButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/save-as-pdf-button.png"));
+        saveAsPDFButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                saveAsPDFButtonActionPerformed(evt);
+            }
+        });
+
+        saveAsCSVButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/save-as-csv-button.png"));
+        saveAsCSVButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                saveAsCSVButtonActionPerformed(evt);
+            }
+        });
+
+        cancelButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/cancel-button.png"));
+        cancelButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                cancelButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(66, 66, 66)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addComponent(overviewCaymanTitleLabel)
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(10, 10, 10)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING, false)
+                            .addGroup(layout.createSequentialGroup()
+                                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                    .addComponent(overviewTotalPriceTitleLabel)
+                                    .addComponent(overviewBasePriceTitleLabel)
+                                    .addComponent(overviewDeliverPriceTitleLabel)
+                                    .addComponent(overviewEquipPriceTitleLabel))
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                    .addComponent(overviewDeliverPriceDollarLabel, javax.swing.GroupLayout.Alignment.TRAILING)
+                                    .addComponent(overviewTotalPriceDollarLabel, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                    .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addComponent(overviewEquipPriceDollarLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 52, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                        .addComponent(overviewBasePriceDollarLabel, javax.swing.GroupLayout.Alignment.TRAILING))))
+                            .addComponent(overviewCaymanDisplayLabel)))
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(103, 103, 103)
+                        .addComponent(overviewImageSelect1Radio)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewImageSelect2Radio)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewImageSelect3Radio)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewImageSelect4Radio)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewImageSelect5Radio)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewImageSelect6Radio)))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 106, Short.MAX_VALUE)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addComponent(overviewDescriptionPaintSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING, false)
+                        .addComponent(overviewTransUpgradesSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGroup(layout.createSequentialGroup()
+                            .addGap(24, 24, 24)
+                            .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
+                                .addGroup(layout.createSequentialGroup()
+                                    .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addGroup(layout.createSequentialGroup()
+                                            .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
+                                                .addComponent(overviewWheelStyleNameLabel, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.PREFERRED_SIZE, 330, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewPaintColorNameLabel, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.PREFERRED_SIZE, 330, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewLeatherColorNameLabel, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.PREFERRED_SIZE, 330, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewTransNameLabel, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.PREFERRED_SIZE, 330, javax.swing.GroupLayout.PREFERRED_SIZE))
+                                            .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                                            .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                                .addComponent(overviewPaintColorPriceLabel, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewWheelStylePriceLabel, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewLeatherColorPriceLabel, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                                .addComponent(overviewTransPriceLabel, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                                        .addGroup(layout.createSequentialGroup()
+                                            .addComponent(overviewAddUpgradesNameLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 330, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                            .addGap(18, 18, 18)
+                                            .addComponent(overviewAddUpgradesPriceLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                                    .addGap(37, 37, 37))
+                                .addGroup(javax.swing.GroupLayout.Alignment.LEADING, layout.createSequentialGroup()
+                                    .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
+                                        .addComponent(overviewExtColorTitleLabel, javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addComponent(overviewWheelStyleTitleLabel, javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addComponent(overviewIntColorTitleLabel, javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addComponent(overviewTransTitleLabel, javax.swing.GroupLayout.Alignment.LEADING)
+                                        .addComponent(overviewAddUpgradesTitleLabel, javax.swing.GroupLayout.Alignment.LEADING))
+                                    .addGap(0, 0, Short.MAX_VALUE))))
+                        .addComponent(overviewGrayDescriptionPanel, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                    .addComponent(overviewPaintWheelSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(overviewWheelLeatherSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(overviewLeatherTransSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(overviewUpgradesButtonsSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 460, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addGroup(layout.createSequentialGroup()
+                        .addComponent(saveAsPDFButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(saveAsCSVButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(cancelButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                .addGap(77, 77, 77))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addContainerGap()
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
+                        .addComponent(overviewCaymanTitleLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 139, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                        .addComponent(overviewCaymanDisplayLabel)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                            .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
+                                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
+                                    .addComponent(overviewImageSelect2Radio)
+                                    .addComponent(overviewImageSelect3Radio)
+                                    .addComponent(overviewImageSelect4Radio, javax.swing.GroupLayout.Alignment.LEADING)
+                                    .addComponent(overviewImageSelect5Radio, javax.swing.GroupLayout.Alignment.LEADING))
+                                .addComponent(overviewImageSelect1Radio))
+                            .addComponent(overviewImageSelect6Radio))
+                        .addGap(43, 43, 43)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING, false)
+                            .addGroup(layout.createSequentialGroup()
+                                .addComponent(overviewBasePriceTitleLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewEquipPriceTitleLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewDeliverPriceTitleLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewTotalPriceTitleLabel))
+                            .addGroup(layout.createSequentialGroup()
+                                .addComponent(overviewBasePriceDollarLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewEquipPriceDollarLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewDeliverPriceDollarLabel)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(overviewTotalPriceDollarLabel)))
+                        .addGap(89, 89, 89))
+                    .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
+                        .addComponent(overviewGrayDescriptionPanel, javax.swing.GroupLayout.PREFERRED_SIZE, 37, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewDescriptionPaintSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewExtColorTitleLabel)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                            .addComponent(overviewPaintColorNameLabel)
+                            .addComponent(overviewPaintColorPriceLabel))
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewPaintWheelSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(7, 7, 7)
+                        .addComponent(overviewWheelStyleTitleLabel)
+                        .addGap(11, 11, 11)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                            .addComponent(overviewWheelStyleNameLabel)
+                            .addComponent(overviewWheelStylePriceLabel))
+                        .addGap(7, 7, 7)
+                        .addComponent(overviewWheelLeatherSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewIntColorTitleLabel)
+                        .addGap(11, 11, 11)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                            .addComponent(overviewLeatherColorNameLabel)
+                            .addComponent(overviewLeatherColorPriceLabel))
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(overviewLeatherTransSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(7, 7, 7)
+                        .addComponent(overviewTransTitleLabel)
+                        .addGap(11, 11, 11)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                            .addComponent(overviewTransNameLabel)
+                            .addComponent(overviewTransPriceLabel))
+                        .addGap(8, 8, 8)
+                        .addComponent(overviewTransUpgradesSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(8, 8, 8)
+                        .addComponent(overviewAddUpgradesTitleLabel)
+                        .addGap(11, 11, 11)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING, false)
+                            .addComponent(overviewAddUpgradesPriceLabel, javax.swing.GroupLayout.DEFAULT_SIZE, 100, Short.MAX_VALUE)
+                            .addComponent(overviewAddUpgradesNameLabel, javax.swing.GroupLayout.DEFAULT_SIZE, 100, Short.MAX_VALUE))
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                        .addComponent(overviewUpgradesButtonsSeparator, javax.swing.GroupLayout.PREFERRED_SIZE, 2, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                        .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                            .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                                .addComponent(saveAsPDFButton, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                .addComponent(saveAsCSVButton, javax.swing.GroupLayout.Alignment.TRAILING, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE))
+                            .addComponent(cancelButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE))
+                        .addGap(92, 92, 92))))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void overviewImageSelect1RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect1RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect1RadioActionPerformed
+
+    private void overviewImageSelect2RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect2RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect2RadioActionPerformed
+
+    private void overviewImageSelect3RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect3RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect3RadioActionPerformed
+
+    private void overviewImageSelect4RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect4RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect4RadioActionPerformed
+
+    private void overviewImageSelect5RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect5RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect5RadioActionPerformed
+
+    private void overviewImageSelect6RadioActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_overviewImageSelect6RadioActionPerformed
+        mainWindow.setImagePath("overview window");
+    }//GEN-LAST:event_overviewImageSelect6RadioActionPerformed
+
+    private void saveAsPDFButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_saveAsPDFButtonActionPerformed
+        mainWindow.printDialogToPDF();
+    }//GEN-LAST:event_saveAsPDFButtonActionPerformed
+
+    private void saveAsCSVButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_saveAsCSVButtonActionPerformed
+        mainWindow.printDialogToCSV();
+    }//GEN-LAST:event_saveAsCSVButtonActionPerformed
+
+    private void cancelButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_cancelButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_cancelButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    javax.swing.JButton cancelButton;
+    javax.swing.JLabel descriptionLabel;
+    javax.swing.JLabel overviewAddUpgradesNameLabel;
+    javax.swing.JLabel overviewAddUpgradesPriceLabel;
+    javax.swing.JLabel overviewAddUpgradesTitleLabel;
+    javax.swing.JLabel overviewBasePriceDollarLabel;
+    javax.swing.JLabel overviewBasePriceTitleLabel;
+    javax.swing.JLabel overviewCaymanDisplayLabel;
+    javax.swing.JLabel overviewCaymanTitleLabel;
+    javax.swing.JLabel overviewDeliverPriceDollarLabel;
+    javax.swing.JLabel overviewDeliverPriceTitleLabel;
+    javax.swing.JSeparator overviewDescriptionPaintSeparator;
+    javax.swing.JLabel overviewEquipPriceDollarLabel;
+    javax.swing.JLabel overviewEquipPriceTitleLabel;
+    javax.swing.JLabel overviewExtColorTitleLabel;
+    javax.swing.JPanel overviewGrayDescriptionPanel;
+    javax.swing.JRadioButton overviewImageSelect1Radio;
+    javax.swing.JRadioButton overviewImageSelect2Radio;
+    javax.swing.JRadioButton overviewImageSelect3Radio;
+    javax.swing.JRadioButton overviewImageSelect4Radio;
+    javax.swing.JRadioButton overviewImageSelect5Radio;
+    javax.swing.JRadioButton overviewImageSelect6Radio;
+    javax.swing.ButtonGroup overviewImageSelectorGroup;
+    javax.swing.JLabel overviewIntColorTitleLabel;
+    javax.swing.JLabel overviewLeatherColorNameLabel;
+    javax.swing.JLabel overviewLeatherColorPriceLabel;
+    javax.swing.JSeparator overviewLeatherTransSeparator;
+    javax.swing.JLabel overviewPaintColorNameLabel;
+    javax.swing.JLabel overviewPaintColorPriceLabel;
+    javax.swing.JSeparator overviewPaintWheelSeparator;
+    javax.swing.JLabel overviewTotalPriceDollarLabel;
+    javax.swing.JLabel overviewTotalPriceTitleLabel;
+    javax.swing.JLabel overviewTransNameLabel;
+    javax.swing.JLabel overviewTransPriceLabel;
+    javax.swing.JLabel overviewTransTitleLabel;
+    javax.swing.JSeparator overviewTransUpgradesSeparator;
+    javax.swing.JSeparator overviewUpgradesButtonsSeparator;
+    javax.swing.JSeparator overviewWheelLeatherSeparator;
+    javax.swing.JLabel overviewWheelStyleNameLabel;
+    javax.swing.JLabel overviewWheelStylePriceLabel;
+    javax.swing.JLabel overviewWheelStyleTitleLabel;
+    javax.swing.JLabel priceLabel;
+    javax.swing.JButton saveAsCSVButton;
+    javax.swing.JButton saveAsPDFButton;
+    // End of variables declaration//GEN-END:variables
+}
@@ -0,0 +1,96 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PaintMaskBuilder.java
+ * Date: October 18, 2026
+ * Purpose: Derives the body masks used by PaintRecolorRenderer.java from the
+ *          existing photos of each specification in every paint
+ */
+package configurator;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * Usage: PaintMaskBuilder &lt;cayman-model image directory&gt; &lt;output mask directory&gt;
+ * <p>
+ * A pixel belongs to the body when its colour changes between paints: the mask is
+ * 0 below LOW_DIFFERENCE, 255 above HIGH_DIFFERENCE and ramps in between.
+ * @author Jack
+ */
+public class PaintMaskBuilder {
+    private static final int LOW_DIFFERENCE = 24;
+    private static final int HIGH_DIFFERENCE = 64;
+
+    public static void main(String[] args) throws IOException {
+        if(args.length != 2) {
+            System.err.println("Usage: PaintMaskBuilder <cayman-model image directory> <output mask directory>");
+            System.exit(2);
+        }
+        File imageDirectory = new File(args[0]);
+        File maskDirectory = new File(args[1]);
+        int written = 0;
+        for(String wheelStylePath : Cayman.WHEEL_STYLE_PATHS) {
+            for(String intColorPath : Cayman.INT_COLOR_PATHS) {
+                for(String transPath : Cayman.TRANS_PATHS) {
+                    for(String angle : ModelImageKey.ANGLES) {
+                        ModelImageKey key = new ModelImageKey(PaintRecolorRenderer.BASE_EXT_COLOR_PATH,
+                                wheelStylePath, intColorPath, transPath, angle);
+                        BufferedImage mask = buildMask(imageDirectory, key);
+                        if(mask != null) {
+                            File maskFile = new File(maskDirectory, PaintRecolorRenderer.maskPathOf(key)
+                                    .substring(PaintRecolorRenderer.MASK_ROOT.length()));
+                            maskFile.getParentFile().mkdirs();
+                            ImageIO.write(mask, "png", maskFile);
+                            written++;
+                        }
+                    }
+                }
+            }
+        }
+        System.out.println("Wrote " + written + " body masks to " + maskDirectory);
+    }
+
+    //Compares the photos of every paint that has one, the base paint's first, so
+    //paints added to the catalogue without photos are skipped. Returns null when
+    //the base paint's photo is missing or no other paint has one to compare.
+    static BufferedImage buildMask(File imageDirectory, ModelImageKey key) throws IOException {
+        List<BufferedImage> paintPhotos = new ArrayList<>();
+        for(String extColorPath : Cayman.EXT_COLOR_PATHS) {
+            ModelImageKey paintKey = new ModelImageKey(extColorPath, key.getWheelStylePath(),
+                    key.getIntColorPath(), key.getTransPath(), key.getAngle());
+            File photo = new File(imageDirectory, paintKey.getResourcePath().substring("images/cayman-model/".length()));
+            if(photo.isFile()) {
+                paintPhotos.add(extColorPath.equals(PaintRecolorRenderer.BASE_EXT_COLOR_PATH) ? 0 : paintPhotos.size(),
+                        ImageIO.read(photo));
+            } else if(extColorPath.equals(PaintRecolorRenderer.BASE_EXT_COLOR_PATH)) {
+                return null;
+            }
+        }
+        if(paintPhotos.size() < 2) {
+            return null;
+        }
+        BufferedImage[] photos = paintPhotos.toArray(new BufferedImage[paintPhotos.size()]);
+        int width = photos[0].getWidth();
+        int height = photos[0].getHeight();
+        BufferedImage mask = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        for(int y = 0; y < height; y++) {
+            for(int x = 0; x < width; x++) {
+                int difference = 0;
+                int first = photos[0].getRGB(x, y);
+                for(int i = 1; i < photos.length; i++) {
+                    int other = photos[i].getRGB(x, y);
+                    for(int shift = 16; shift >= 0; shift -= 8) {
+                        difference = Math.max(difference, Math.abs(((first >> shift) & 0xFF) - ((other >> shift) & 0xFF)));
+                    }
+                }
+                int weight = (difference - LOW_DIFFERENCE) * 255 / (HIGH_DIFFERENCE - LOW_DIFFERENCE);
+                mask.getRaster().setSample(x, y, 0, Math.max(0, Math.min(255, weight)));
+            }
+        }
+        return mask;
+    }
+}
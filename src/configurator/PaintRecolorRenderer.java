@@ -0,0 +1,256 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PaintRecolorRenderer.java
+ * Date: October 18, 2026
+ * Purpose: Repaints the body of a base model photo in any colour from the paint
+ *          colour table, using a body mask, so new paints need no new photos
+ */
+package configurator;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+/**
+ * Masks live under images/cayman-model-masks/&lt;wheel&gt;/&lt;interior&gt;/&lt;trans&gt;/&lt;angle&gt;.png
+ * (angle without ".jpg") as 8-bit grey images: 255 where the pixel is painted
+ * body, 0 where it is not, in between along soft edges. PaintMaskBuilder.java
+ * derives them from the existing photos. The base photo is the BASE_EXT_COLOR_PATH
+ * photo of the same specification, read from the asset pack when one is
+ * installed, since the jar then ships no photos, or else from the classpath.
+ * @author Jack
+ */
+public class PaintRecolorRenderer {
+    public static final String MASK_ROOT = "images/cayman-model-masks/";
+    //The paint every recoloured photo starts from: the catalogue's first paint,
+    //which keeps ordinal 0 for good since paints are only ever appended
+    public static final String BASE_EXT_COLOR_PATH = OptionCatalogue.getDefault().getPath(LineItem.Category.PAINT, 0);
+    //Rows per fork/join task; one tile is a few microseconds of work
+    static final int TILE_ROWS = 16;
+
+    //Paint path -> representative sRGB colour of the painted body, for every paint
+    //in the option catalogue
+    public static final Map<String, Integer> PAINT_COLORS;
+    static {
+        OptionCatalogue catalogue = OptionCatalogue.getDefault();
+        Map<String, Integer> colors = new HashMap<>();
+        for(int i = 0; i < catalogue.getCount(LineItem.Category.PAINT); i++) {
+            colors.put(catalogue.getPath(LineItem.Category.PAINT, i), catalogue.getPaintColor(i));
+        }
+        PAINT_COLORS = Collections.unmodifiableMap(colors);
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(PaintRecolorRenderer.class.getName());
+
+    private final Class<?> resourceBase;
+    //Null when the photos are only on the classpath
+    private final ModelAssetPack assetPack;
+    private final ForkJoinPool pool;
+
+    public PaintRecolorRenderer(Class<?> resourceBase) {
+        this(resourceBase, null, ForkJoinPool.commonPool());
+    }
+
+    public PaintRecolorRenderer(Class<?> resourceBase, ForkJoinPool pool) {
+        this(resourceBase, null, pool);
+    }
+
+    public PaintRecolorRenderer(Class<?> resourceBase, ModelAssetPack assetPack) {
+        this(resourceBase, assetPack, ForkJoinPool.commonPool());
+    }
+
+    public PaintRecolorRenderer(Class<?> resourceBase, ModelAssetPack assetPack, ForkJoinPool pool) {
+        this.resourceBase = resourceBase;
+        this.assetPack = assetPack;
+        this.pool = pool;
+    }
+
+    public static String maskPathOf(ModelImageKey key) {
+        String angle = key.getAngle();
+        int extension = angle.lastIndexOf('.');
+        return MASK_ROOT + key.getWheelStylePath() + "/" + key.getIntColorPath() + "/" + key.getTransPath()
+                + "/" + (extension < 0 ? angle : angle.substring(0, extension)) + ".png";
+    }
+
+    public boolean canRender(ModelImageKey key) {
+        return PAINT_COLORS.containsKey(key.getExtColorPath()) && PAINT_COLORS.containsKey(BASE_EXT_COLOR_PATH)
+                && resourceBase.getResource(maskPathOf(key)) != null
+                && hasBasePhoto(baseKeyOf(key).getResourcePath());
+    }
+
+    //Returns the base photo repainted in the key's paint colour, or null when
+    //either paint's colour, the mask or the base photo is missing
+    public BufferedImage render(ModelImageKey key) {
+        Integer color = PAINT_COLORS.get(key.getExtColorPath());
+        Integer baseColor = PAINT_COLORS.get(BASE_EXT_COLOR_PATH);
+        if(color == null || baseColor == null) {
+            return null;
+        }
+        BufferedImage base = readBasePhoto(baseKeyOf(key).getResourcePath());
+        BufferedImage mask = read(maskPathOf(key));
+        if(base == null || mask == null) {
+            return null;
+        }
+        return recolor(base, mask, baseColor, color);
+    }
+
+    //Tints every masked pixel of base towards targetColor. The base photo's shading
+    //is kept: a pixel as bright as baseColor comes out exactly targetColor, darker
+    //pixels blend towards black and brighter ones (reflections) towards white.
+    public BufferedImage recolor(BufferedImage base, BufferedImage mask, int baseColor, int targetColor) {
+        int width = base.getWidth();
+        int height = base.getHeight();
+        if(mask.getWidth() != width || mask.getHeight() != height) {
+            throw new IllegalArgumentException("Mask is " + mask.getWidth() + "x" + mask.getHeight()
+                    + " but the base photo is " + width + "x" + height);
+        }
+        int[] source = toIntRGB(base);
+        byte[] alpha = toGray(mask);
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] target = ((DataBufferInt) result.getRaster().getDataBuffer()).getData();
+        pool.invoke(new TileTask(source, alpha, target, width, 0, height, buildTintTable(baseColor, targetColor)));
+        return result;
+    }
+
+    //For each source luma 0..255, the tinted red, green and blue values packed as RGB
+    static int[] buildTintTable(int baseColor, int targetColor) {
+        int baseLuma = luma(baseColor);
+        int[] table = new int[256];
+        for(int luma = 0; luma < 256; luma++) {
+            //Scale so the base paint's own brightness lands on the overlay midpoint
+            double shade = Math.min(1.0, luma * 0.5 / Math.max(1, baseLuma));
+            int rgb = 0;
+            for(int shift = 16; shift >= 0; shift -= 8) {
+                double channel = ((targetColor >> shift) & 0xFF) / 255.0;
+                double tinted = shade < 0.5
+                        ? 2 * shade * channel
+                        : 1 - 2 * (1 - shade) * (1 - channel);
+                rgb |= (int) Math.round(tinted * 255) << shift;
+            }
+            table[luma] = rgb;
+        }
+        return table;
+    }
+
+    private static int luma(int rgb) {
+        return (77 * ((rgb >> 16) & 0xFF) + 150 * ((rgb >> 8) & 0xFF) + 29 * (rgb & 0xFF)) >> 8;
+    }
+
+    private ModelImageKey baseKeyOf(ModelImageKey key) {
+        return new ModelImageKey(BASE_EXT_COLOR_PATH, key.getWheelStylePath(), key.getIntColorPath(),
+                key.getTransPath(), key.getAngle());
+    }
+
+    private boolean hasBasePhoto(String resourcePath) {
+        return assetPack != null && assetPack.contains(resourcePath) || resourceBase.getResource(resourcePath) != null;
+    }
+
+    private BufferedImage readBasePhoto(String resourcePath) {
+        if(assetPack == null || !assetPack.contains(resourcePath)) {
+            return read(resourcePath);
+        }
+        try {
+            return ImageIO.read(assetPack.openStream(resourcePath));
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, null, ex);
+            return null;
+        }
+    }
+
+    private BufferedImage read(String resourcePath) {
+        URL url = resourceBase.getResource(resourcePath);
+        if(url == null) {
+            return null;
+        }
+        try {
+            return ImageIO.read(url);
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, null, ex);
+            return null;
+        }
+    }
+
+    private static int[] toIntRGB(BufferedImage image) {
+        if(image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static byte[] toGray(BufferedImage image) {
+        if(image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            return ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        }
+        BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g2 = gray.createGraphics();
+        g2.drawImage(image, 0, 0, null);
+        g2.dispose();
+        return ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+    }
+
+    //Splits the image into bands of TILE_ROWS rows and recolours them in parallel
+    private static class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final byte[] mask;
+        private final int[] target;
+        private final int width;
+        private final int firstRow;
+        private final int endRow;
+        private final int[] tint;
+
+        TileTask(int[] source, byte[] mask, int[] target, int width, int firstRow, int endRow, int[] tint) {
+            this.source = source;
+            this.mask = mask;
+            this.target = target;
+            this.width = width;
+            this.firstRow = firstRow;
+            this.endRow = endRow;
+            this.tint = tint;
+        }
+
+        @Override
+        protected void compute() {
+            if(endRow - firstRow > TILE_ROWS) {
+                int middle = (firstRow + endRow) >>> 1;
+                invokeAll(new TileTask(source, mask, target, width, firstRow, middle, tint),
+                        new TileTask(source, mask, target, width, middle, endRow, tint));
+                return;
+            }
+            int end = endRow * width;
+            for(int i = firstRow * width; i < end; i++) {
+                int rgb = source[i];
+                int weight = mask[i] & 0xFF;
+                if(weight == 0) {
+                    target[i] = rgb & 0xFFFFFF;
+                    continue;
+                }
+                int r = (rgb >> 16) & 0xFF;
+                int g = (rgb >> 8) & 0xFF;
+                int b = rgb & 0xFF;
+                int tinted = tint[(77 * r + 150 * g + 29 * b) >> 8];
+                if(weight == 255) {
+                    target[i] = tinted;
+                    continue;
+                }
+                int keep = 255 - weight;
+                int tr = (((tinted >> 16) & 0xFF) * weight + r * keep) / 255;
+                int tg = (((tinted >> 8) & 0xFF) * weight + g * keep) / 255;
+                int tb = ((tinted & 0xFF) * weight + b * keep) / 255;
+                target[i] = (tr << 16) | (tg << 8) | tb;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PdfFileNotFoundDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports that the configurator GUI (MainWindow.java) could not open
+ *          the PDF file, e.g. because another program has it open
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class PdfFileNotFoundDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public PdfFileNotFoundDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        pdfFileNotFoundOKButton = new javax.swing.JButton();
+        pdfFileNotFoundErrorIcon = new javax.swing.JLabel();
+        pdfFileNotFoundErrorMessage = new javax.swing.JLabel();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Error: File Not Found");
+        setResizable(false);
+        setSize(new java.awt.Dimension(1040, 175));
+
+        pdfFileNotFoundOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        pdfFileNotFoundOKButton.setVerifyInputWhenFocusTarget(false);
+        pdfFileNotFoundOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                pdfFileNotFoundOKButtonActionPerformed(evt);
+            }
+        });
+
+        pdfFileNotFoundErrorIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/error-dialog-icon.png"));
+        pdfFileNotFoundErrorIcon.setText("jLabel1");
+
+        pdfFileNotFoundErrorMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        pdfFileNotFoundErrorMessage.setText("Error! The file you are trying to access is currently being used by another operation or cannot be found. Please try again.");
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(48, 48, 48)
+                        .addComponent(pdfFileNotFoundErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(31, 31, 31)
+                        .addComponent(pdfFileNotFoundErrorMessage))
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(442, 442, 442)
+                        .addComponent(pdfFileNotFoundOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                .addContainerGap(54, Short.MAX_VALUE))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(pdfFileNotFoundErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(pdfFileNotFoundErrorMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(pdfFileNotFoundOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void pdfFileNotFoundOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_pdfFileNotFoundOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_pdfFileNotFoundOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel pdfFileNotFoundErrorIcon;
+    private javax.swing.JLabel pdfFileNotFoundErrorMessage;
+    private javax.swing.JButton pdfFileNotFoundOKButton;
+    // End of variables declaration//GEN-END:variables
+}
@@ -0,0 +1,91 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PdfInternalErrorDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports any other failure to save the PDF from the configurator GUI
+ *          (MainWindow.java)
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class PdfInternalErrorDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public PdfInternalErrorDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        pdfInternalErrorIcon = new javax.swing.JLabel();
+        pdfInternalErrorMessage = new javax.swing.JLabel();
+        pdfInternalErrorOKButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Internal Error");
+        setResizable(false);
+        setSize(new java.awt.Dimension(400, 175));
+
+        pdfInternalErrorIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/error-dialog-icon.png"));
+        pdfInternalErrorIcon.setText("jLabel1");
+
+        pdfInternalErrorMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        pdfInternalErrorMessage.setText("Internal error. Please try again.");
+
+        pdfInternalErrorOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        pdfInternalErrorOKButton.setVerifyInputWhenFocusTarget(false);
+        pdfInternalErrorOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                pdfInternalErrorOKButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(48, 48, 48)
+                        .addComponent(pdfInternalErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addGap(31, 31, 31)
+                        .addComponent(pdfInternalErrorMessage))
+                    .addGroup(layout.createSequentialGroup()
+                        .addGap(121, 121, 121)
+                        .addComponent(pdfInternalErrorOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                .addContainerGap(52, Short.MAX_VALUE))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(pdfInternalErrorIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(pdfInternalErrorMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(pdfInternalErrorOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void pdfInternalErrorOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_pdfInternalErrorOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_pdfInternalErrorOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel pdfInternalErrorIcon;
+    private javax.swing.JLabel pdfInternalErrorMessage;
+    private javax.swing.JButton pdfInternalErrorOKButton;
+    // End of variables declaration//GEN-END:variables
+}
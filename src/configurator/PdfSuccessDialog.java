@@ -0,0 +1,90 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PdfSuccessDialog.java
+ * Date: October 18, 2026
+ * Purpose: Reports that the configurator GUI (MainWindow.java) saved the
+ *          specification as a PDF
+ */
+package configurator;
+
+/**
+ * @author Jack
+ */
+public class PdfSuccessDialog extends javax.swing.JDialog {
+
+    private static final long serialVersionUID = 1L;
+
+    public PdfSuccessDialog() {
+        initComponents();
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        pdfSuccessDialogIcon = new javax.swing.JLabel();
+        pdfSuccessMessage = new javax.swing.JLabel();
+        pdfSuccessOKButton = new javax.swing.JButton();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("File Successfully Saved");
+        setResizable(false);
+        setSize(new java.awt.Dimension(1040, 175));
+
+        pdfSuccessDialogIcon.setIcon(UiIcons.get("/configurator/images/ui-items/icons/success-dialog-icon.png"));
+        pdfSuccessDialogIcon.setText("jLabel1");
+
+        pdfSuccessMessage.setFont(new java.awt.Font("Verdana", 0, 14)); // NOI18N
+        pdfSuccessMessage.setText("Success! Your specification has been saved to the current user's home directory as a PDF file named \"cayman-spec.pdf\"");
+
+        pdfSuccessOKButton.setIcon(UiIcons.get("/configurator/images/ui-items/buttons/ok-button.png"));
+        pdfSuccessOKButton.setVerifyInputWhenFocusTarget(false);
+        pdfSuccessOKButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                pdfSuccessOKButtonActionPerformed(evt);
+            }
+        });
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(47, 47, 47)
+                .addComponent(pdfSuccessDialogIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGap(31, 31, 31)
+                .addComponent(pdfSuccessMessage)
+                .addContainerGap(64, Short.MAX_VALUE))
+            .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
+                .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                .addComponent(pdfSuccessOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 150, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGap(422, 422, 422))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(25, 25, 25)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(pdfSuccessDialogIcon, javax.swing.GroupLayout.PREFERRED_SIZE, 50, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(pdfSuccessMessage))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(pdfSuccessOKButton, javax.swing.GroupLayout.PREFERRED_SIZE, 30, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(61, Short.MAX_VALUE))
+        );
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void pdfSuccessOKButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_pdfSuccessOKButtonActionPerformed
+        dispose();
+    }//GEN-LAST:event_pdfSuccessOKButtonActionPerformed
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel pdfSuccessDialogIcon;
+    private javax.swing.JLabel pdfSuccessMessage;
+    private javax.swing.JButton pdfSuccessOKButton;
+    // End of variables declaration//GEN-END:variables
+}
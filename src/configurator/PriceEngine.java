@@ -0,0 +1,166 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PriceEngine.java
+ * Date: October 18, 2026
+ * Purpose: Keeps the equipment and total price of the configuration on screen up
+ *          to date by applying the price difference of each option change
+ */
+package configurator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A click changes one option, so the running equipment price only needs that
+ * option's old price taken off and its new price added, whatever the size of
+ * the catalogue. Listeners hear about a change only when a price actually
+ * moves. Not thread-safe; the configurator uses it on the EDT only.
+ * PriceEngineTest checks the running price against a full recompute.
+ * @author Jack
+ */
+public class PriceEngine {
+    //Told the new prices after an option change that moved them
+    public interface Listener {
+        void pricesChanged(int equipPrice, int totalPrice);
+    }
+
+    private final int basePrice;
+    private final int deliveryPrice;
+    //Price tables indexed by [category.ordinal()][option ordinal]
+    private final int[][] prices;
+    //Chosen ordinal of each choice category; unused for upgrades
+    private final int[] choices = new int[LineItem.Category.values().length];
+    private long upgrades;
+    private int equipPrice;
+    private final List<Listener> listeners = new ArrayList<>();
+
+    //Starts at the catalogue's first choice of every category, with no upgrades,
+    //the same as a new Cayman
+    public PriceEngine(OptionCatalogue catalogue) {
+        basePrice = catalogue.getBasePrice();
+        deliveryPrice = catalogue.getDeliveryPrice();
+        prices = new int[LineItem.Category.values().length][];
+        for(LineItem.Category category : LineItem.Category.values()) {
+            prices[category.ordinal()] = catalogue.getPrices(category);
+        }
+        equipPrice = recompute();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public int getEquipPrice() {
+        return equipPrice;
+    }
+
+    public int getTotalPrice() {
+        return basePrice + equipPrice + deliveryPrice;
+    }
+
+    public int getChoice(LineItem.Category category) {
+        return choices[checkChoiceCategory(category)];
+    }
+
+    public long getUpgrades() {
+        return upgrades;
+    }
+
+    //The configuration being priced, packed as by ConfigurationKey
+    public long getConfigurationKey() {
+        return ConfigurationKey.encode(choices[LineItem.Category.PAINT.ordinal()],
+                choices[LineItem.Category.WHEELS.ordinal()],
+                choices[LineItem.Category.INTERIOR.ordinal()],
+                choices[LineItem.Category.TRANSMISSION.ordinal()], upgrades);
+    }
+
+    //Picks the paint, wheels, interior or transmission with the given ordinal
+    public void setChoice(LineItem.Category category, int ordinal) {
+        int[] table = prices[checkChoiceCategory(category)];
+        if(ordinal < 0 || ordinal >= table.length) {
+            throw new IllegalArgumentException("No " + category + " choice " + ordinal);
+        }
+        int old = choices[category.ordinal()];
+        if(ordinal == old) {
+            return;
+        }
+        int delta = table[ordinal] - table[old];
+        choices[category.ordinal()] = ordinal;
+        apply(delta);
+    }
+
+    public void setUpgrade(int ordinal, boolean chosen) {
+        int[] table = prices[LineItem.Category.UPGRADE.ordinal()];
+        long bit = 1L << ordinal;
+        if(ordinal < 0 || ordinal >= table.length) {
+            throw new IllegalArgumentException("Upgrade ordinal out of range: " + ordinal);
+        } if(((upgrades & bit) != 0) == chosen) {
+            return;
+        }
+        upgrades ^= bit;
+        apply(chosen ? table[ordinal] : -table[ordinal]);
+    }
+
+    //Replaces the whole configuration, e.g. when one is loaded; a full recompute
+    public void setConfiguration(long configurationKey) {
+        int[] decoded = {ConfigurationKey.extColorOf(configurationKey), ConfigurationKey.wheelStyleOf(configurationKey),
+                ConfigurationKey.intColorOf(configurationKey), ConfigurationKey.transOf(configurationKey)};
+        LineItem.Category[] categories = {LineItem.Category.PAINT, LineItem.Category.WHEELS,
+                LineItem.Category.INTERIOR, LineItem.Category.TRANSMISSION};
+        long decodedUpgrades = ConfigurationKey.upgradesOf(configurationKey);
+        for(int i = 0; i < categories.length; i++) {
+            if(decoded[i] >= prices[categories[i].ordinal()].length) {
+                throw new IllegalArgumentException("No " + categories[i] + " choice " + decoded[i]);
+            }
+        }
+        if(decodedUpgrades >>> prices[LineItem.Category.UPGRADE.ordinal()].length != 0) {
+            throw new IllegalArgumentException("Unknown upgrades in " + Long.toBinaryString(decodedUpgrades));
+        }
+        for(int i = 0; i < categories.length; i++) {
+            choices[categories[i].ordinal()] = decoded[i];
+        }
+        upgrades = decodedUpgrades;
+        apply(recompute() - equipPrice);
+    }
+
+    //The equipment price summed from scratch over every category, ignoring the
+    //running total; what the incremental updates must always agree with
+    public int recompute() {
+        int price = 0;
+        for(LineItem.Category category : LineItem.Category.values()) {
+            int[] table = prices[category.ordinal()];
+            if(category == LineItem.Category.UPGRADE) {
+                for(int i = 0; i < table.length; i++) {
+                    if((upgrades & 1L << i) != 0) {
+                        price += table[i];
+                    }
+                }
+            } else {
+                price += table[choices[category.ordinal()]];
+            }
+        }
+        return price;
+    }
+
+    private void apply(int delta) {
+        Object recomputeEvent = ConfiguratorEvents.beginPriceRecompute();
+        equipPrice += delta;
+        if(delta != 0) {
+            for(int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).pricesChanged(equipPrice, getTotalPrice());
+            }
+        }
+        ConfiguratorEvents.commitPriceRecompute(recomputeEvent, equipPrice, getTotalPrice());
+    }
+
+    private static int checkChoiceCategory(LineItem.Category category) {
+        if(category == LineItem.Category.UPGRADE) {
+            throw new IllegalArgumentException("Upgrades are set with setUpgrade");
+        }
+        return category.ordinal();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PriceMatrix.java
+ * Date: October 18, 2026
+ * Purpose: Prices every configuration the option catalogue allows, in parallel,
+ *          and saves the totals as a compact binary price matrix
+ */
+package configurator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Entry n of the matrix is the total price of configuration n, where
+ * <pre>
+ *  n = ((((paint * wheels + wheel) * interiors + interior) * transmissions + transmission)
+ *          &lt;&lt; upgrades) | upgrade bitmask
+ * </pre>
+ * with the counts and ordinals of OptionCatalogue. The file holds the magic
+ * "CPMX", a format version, the base and delivery prices, the five counts
+ * (paints, wheels, interiors, transmissions, upgrades) and then every total
+ * in that order, all as big-endian ints.
+ * @author Jack
+ */
+public class PriceMatrix {
+    private static final int MAGIC = 0x43504d58;
+    private static final int VERSION = 1;
+    //Leaf tasks per pool thread, so a thread that finishes early can steal work
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final int basePrice;
+    private final int deliveryPrice;
+    private final int[] extColorPrices;
+    private final int[] wheelStylePrices;
+    private final int[] intColorPrices;
+    private final int[] transPrices;
+    private final int upgradeCount;
+    //Price of every upgrade combination, indexed by bitmask
+    private final int[] upgradeSums;
+    private final int[] totals;
+
+    public PriceMatrix(OptionCatalogue catalogue) {
+        basePrice = catalogue.getBasePrice();
+        deliveryPrice = catalogue.getDeliveryPrice();
+        extColorPrices = catalogue.getPrices(LineItem.Category.PAINT);
+        wheelStylePrices = catalogue.getPrices(LineItem.Category.WHEELS);
+        intColorPrices = catalogue.getPrices(LineItem.Category.INTERIOR);
+        transPrices = catalogue.getPrices(LineItem.Category.TRANSMISSION);
+        int[] upgradePrices = catalogue.getPrices(LineItem.Category.UPGRADE);
+        upgradeCount = upgradePrices.length;
+        long size = (long) getSpecificationCount() << upgradeCount;
+        if(upgradeCount > 30 || size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Catalogue has too many configurations for one matrix: "
+                    + getSpecificationCount() + " x 2^" + upgradeCount);
+        }
+        //Each combination is a smaller one plus its lowest upgrade
+        upgradeSums = new int[1 << upgradeCount];
+        for(int mask = 1; mask < upgradeSums.length; mask++) {
+            upgradeSums[mask] = upgradeSums[mask & mask - 1] + upgradePrices[Integer.numberOfTrailingZeros(mask)];
+        }
+        totals = new int[(int) size];
+    }
+
+    //Paint, wheel, interior and transmission combinations, without upgrades
+    public int getSpecificationCount() {
+        return extColorPrices.length * wheelStylePrices.length * intColorPrices.length * transPrices.length;
+    }
+
+    public int getConfigurationCount() {
+        return totals.length;
+    }
+
+    //Fills in every total on the given pool; returns this for chaining
+    public PriceMatrix compute(ForkJoinPool pool) {
+        int leafConfigurations = Math.max(1, totals.length / (TASKS_PER_THREAD * pool.getParallelism()));
+        pool.invoke(new PriceTask(0, getSpecificationCount(), leafConfigurations));
+        return this;
+    }
+
+    //Total price of configuration n (see the class comment for the numbering)
+    public int getTotal(int configuration) {
+        return totals[configuration];
+    }
+
+    public int getTotal(int extColor, int wheelStyle, int intColor, int trans, long upgrades) {
+        return totals[indexOf(extColor, wheelStyle, intColor, trans, upgrades)];
+    }
+
+    public int indexOf(int extColor, int wheelStyle, int intColor, int trans, long upgrades) {
+        int specification = ((extColor * wheelStylePrices.length + wheelStyle) * intColorPrices.length + intColor)
+                * transPrices.length + trans;
+        return specification << upgradeCount | (int) upgrades;
+    }
+
+    public void write(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(basePrice);
+            out.writeInt(deliveryPrice);
+            out.writeInt(extColorPrices.length);
+            out.writeInt(wheelStylePrices.length);
+            out.writeInt(intColorPrices.length);
+            out.writeInt(transPrices.length);
+            out.writeInt(upgradeCount);
+            for(int total : totals) {
+                out.writeInt(total);
+            }
+        }
+    }
+
+    //Prices the specifications from first to last - 1 with all their upgrade
+    //combinations; writes straight into the shared array and allocates nothing
+    private void price(int first, int last) {
+        int fixedPrice = basePrice + deliveryPrice;
+        int combinations = upgradeSums.length;
+        for(int specification = first; specification < last; specification++) {
+            int rest = specification;
+            int trans = rest % transPrices.length;
+            rest /= transPrices.length;
+            int intColor = rest % intColorPrices.length;
+            rest /= intColorPrices.length;
+            int wheelStyle = rest % wheelStylePrices.length;
+            int extColor = rest / wheelStylePrices.length;
+            int choicesPrice = fixedPrice + extColorPrices[extColor] + wheelStylePrices[wheelStyle]
+                    + intColorPrices[intColor] + transPrices[trans];
+            int offset = specification * combinations;
+            for(int mask = 0; mask < combinations; mask++) {
+                totals[offset + mask] = choicesPrice + upgradeSums[mask];
+            }
+        }
+    }
+
+    //Splits the specifications in halves until they hold at most leafConfigurations
+    //configurations, or a single specification, and prices those directly
+    private class PriceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int first;
+        private final int last;
+        private final int leafConfigurations;
+
+        private PriceTask(int first, int last, int leafConfigurations) {
+            this.first = first;
+            this.last = last;
+            this.leafConfigurations = leafConfigurations;
+        }
+
+        @Override
+        protected void compute() {
+            if(last - first == 1 || (long) (last - first) * upgradeSums.length <= leafConfigurations) {
+                price(first, last);
+                return;
+            }
+            int middle = (first + last) >>> 1;
+            invokeAll(new PriceTask(first, middle, leafConfigurations), new PriceTask(middle, last, leafConfigurations));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1 || args.length > 2) {
+            System.err.println("Usage: PriceMatrix <output matrix file> [<threads>]");
+            System.exit(2);
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        PriceMatrix matrix = new PriceMatrix(OptionCatalogue.getDefault()).compute(pool);
+        long priced = System.nanoTime();
+        pool.shutdown();
+        File output = new File(args[0]);
+        matrix.write(output);
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for(int i = 0; i < matrix.getConfigurationCount(); i++) {
+            min = Math.min(min, matrix.getTotal(i));
+            max = Math.max(max, matrix.getTotal(i));
+        }
+        System.out.println(String.format(Locale.ROOT, "Priced %d configurations on %d threads in %.3f ms, $%d to $%d; written to %s",
+                matrix.getConfigurationCount(), threads, (priced - start) / 1e6, min, max, output));
+    }
+}
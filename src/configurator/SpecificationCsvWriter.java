@@ -0,0 +1,51 @@
+/*
+ * Developer: Jack Loss
+ * File Name: SpecificationCsvWriter.java
+ * Date: October 18, 2026
+ * Purpose: Writes a Cayman specification in the CSV format saved by the configurator
+ *          GUI (MainWindow.java)
+ */
+package configurator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * @author Jack
+ */
+public class SpecificationCsvWriter {
+    private SpecificationCsvWriter() {
+    }
+
+    //Writes the totals, then one "Item,Selection,Price" row per line item of the
+    //snapshot. The upgrades must already be added as options (see
+    //MainWindow.checkSelectedOptions). Flushes but does not close the writer.
+    public static void write(CaymanSnapshot cayman, int equipPrice, int totalPrice, Writer writer) throws IOException {
+        BufferedWriter bufferedWriter = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+        bufferedWriter.write("Item,Selection,Price");
+        bufferedWriter.newLine();
+        bufferedWriter.write("2018 Porsche 718 Cayman S,Base Price," + CaymanPricing.BASE_PRICE);
+        bufferedWriter.newLine();
+        bufferedWriter.write("2018 Porsche 718 Cayman S,Price for Equipment," + equipPrice);
+        bufferedWriter.newLine();
+        bufferedWriter.write("2018 Porsche 718 Cayman S,Delivery/Processing/Handling Fee," + CaymanPricing.DELIVERY_PRICE);
+        bufferedWriter.newLine();
+        bufferedWriter.write("2018 Porsche 718 Cayman S,Total Price," + totalPrice);
+        bufferedWriter.newLine();
+        int option = 0;
+        for(LineItem item : cayman.getLineItems()) {
+            if(item.getCategory() == LineItem.Category.UPGRADE) {
+                option++;
+                bufferedWriter.write("Option " + option + "," + item.getName().replace("®", "") + "," + item.getPlainPrice());
+            } else {
+                bufferedWriter.write(item.getCategory().getLabel() + "," + item.getName() + "," + item.getPlainPrice());
+            }
+            bufferedWriter.newLine();
+        }
+        if(option == 0) {
+            bufferedWriter.write("No Options Selected,N/A,0");
+        }
+        bufferedWriter.flush();
+    }
+}
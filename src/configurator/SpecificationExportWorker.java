@@ -0,0 +1,194 @@
+/*
+ * Developer: Jack Loss
+ * File Name: SpecificationExportWorker.java
+ * Date: October 18, 2026
+ * Purpose: Saves the specification as a PDF or CSV off the Event Dispatch
+ *          Thread for the configurator GUI (MainWindow.java), with progress and
+ *          cancellation
+ */
+package configurator;
+
+import com.itextpdf.text.DocumentException;
+import java.awt.Component;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import javax.swing.ImageIcon;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+/**
+ * Everything the export needs is taken on the EDT when it is created: an
+ * immutable snapshot, its prices and the camera angle of the model photo. The
+ * photo itself is looked up from the snapshot on the export thread, so it always
+ * shows the configuration being saved, even while the overview is still loading. The file is
+ * written next to its target under a temporary name and only moved into place
+ * once complete, so a cancelled or failed export leaves any earlier file as it
+ * was. Cancelling stops the export at its next write. The listener is told the
+ * outcome on the EDT; a cancelled export is not reported.
+ * @author Jack
+ */
+public class SpecificationExportWorker extends SwingWorker<File, Void> {
+    public enum Format {
+        PDF, CSV
+    }
+
+    //Told on the EDT how a finished export went
+    public interface Listener {
+        void exportSucceeded(Format format, File file);
+        void exportFailed(Format format, File file, Exception cause);
+    }
+
+    //How often the progress window is checked for the cancel button
+    private static final int CANCEL_POLL_INTERVAL = 100;
+
+    private final Format format;
+    private final File file;
+    private final CaymanSnapshot snapshot;
+    private final ModelImageLoader imageLoader;
+    private final String modelImageAngle;
+    private final int equipPrice;
+    private final int totalPrice;
+    private final Listener listener;
+    private ProgressMonitor progressMonitor;
+    private Timer cancelPoll;
+
+    //The loader and angle, such as "ext-1.jpg", are only used for PDFs and may be null
+    public SpecificationExportWorker(Format format, File file, CaymanSnapshot snapshot, ModelImageLoader imageLoader,
+            String modelImageAngle, int equipPrice, int totalPrice, Listener listener) {
+        this.format = format;
+        this.file = file;
+        this.snapshot = snapshot;
+        this.imageLoader = imageLoader;
+        this.modelImageAngle = modelImageAngle;
+        this.equipPrice = equipPrice;
+        this.totalPrice = totalPrice;
+        this.listener = listener;
+    }
+
+    //Queues the export on the executor and, should it take more than a moment,
+    //shows a progress window with a cancel button over parent. Exports of the
+    //same file must share a single-threaded executor. Call on the EDT.
+    public void start(Component parent, Executor executor) {
+        progressMonitor = new ProgressMonitor(parent, "Saving " + file.getName(), null, 0, 100);
+        progressMonitor.setMillisToDecideToPopup(CANCEL_POLL_INTERVAL);
+        progressMonitor.setMillisToPopup(2 * CANCEL_POLL_INTERVAL);
+        //The monitor only shows itself when told the progress, and has no cancel
+        //callback, so it is polled for both
+        cancelPoll = new Timer(CANCEL_POLL_INTERVAL, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent evt) {
+                if(progressMonitor.isCanceled()) {
+                    cancel(false);
+                } else {
+                    progressMonitor.setProgress(getProgress());
+                }
+            }
+        });
+        cancelPoll.start();
+        executor.execute(this);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    protected File doInBackground() throws IOException, DocumentException {
+        Object exportEvent = ConfiguratorEvents.beginExport();
+        boolean exported = false;
+        //Exports run one at a time, so the name cannot clash; opening it fails with
+        //FileNotFoundException just as writing the file itself would
+        File partFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".part");
+        try {
+            setProgress(10);
+            try (OutputStream out = new CancellableOutputStream(new FileOutputStream(partFile))) {
+                if(format == Format.PDF) {
+                    //Draws the sheet with iText alone rather than printing the overview
+                    //window, which belongs to the EDT
+                    ImageIcon modelImage = imageLoader == null || modelImageAngle == null ? null
+                            : imageLoader.getOrDecode(ModelImageKey.of(snapshot, modelImageAngle));
+                    SpecificationPdfWriter.write(snapshot, modelImage == null ? null : modelImage.getImage(), equipPrice, totalPrice, new BufferedOutputStream(out, 64 * 1024));
+                } else {
+                    //The platform charset, as FileWriter used to write it
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+                    SpecificationCsvWriter.write(snapshot, equipPrice, totalPrice, writer);
+                    writer.flush();
+                }
+            }
+            checkCancelled();
+            setProgress(90);
+            Files.move(partFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            exported = true;
+            setProgress(100);
+            return file;
+        } finally {
+            if(!exported) {
+                Files.deleteIfExists(partFile.toPath());
+            }
+            ConfiguratorEvents.commitExport(exportEvent, format.name(), file, exported);
+        }
+    }
+
+    @Override
+    protected void done() {
+        cancelPoll.stop();
+        progressMonitor.close();
+        if(isCancelled()) {
+            return;
+        }
+        try {
+            listener.exportSucceeded(format, get());
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            listener.exportFailed(format, file, cause instanceof Exception ? (Exception) cause : ex);
+        } catch (InterruptedException ex) {
+            //Cannot happen; once done() runs, get() returns without waiting
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkCancelled() throws InterruptedIOException {
+        if(isCancelled()) {
+            throw new InterruptedIOException("Export of " + file + " cancelled");
+        }
+    }
+
+    //Stops the writer at its next write once the export is cancelled
+    private class CancellableOutputStream extends FilterOutputStream {
+        private CancellableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkCancelled();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Developer: Jack Loss
+ * File Name: SpecificationPdfWriter.java
+ * Date: October 18, 2026
+ * Purpose: Prints the specification summary to the PDF saved by the configurator
+ *          GUI (MainWindow.java)
+ */
+package configurator;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.PdfWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * @author Jack
+ */
+public class SpecificationPdfWriter {
+
+    private SpecificationPdfWriter() {
+    }
+
+    //Prints the summary of the snapshot onto a landscape A4 page (see
+    //SpecificationSheet). modelImage may be null. Uses no Swing, so it may run
+    //on any thread. Closes the stream, whether or not the PDF could be written.
+    public static void write(CaymanSnapshot snapshot, java.awt.Image modelImage, int equipPrice, int totalPrice,
+            OutputStream out) throws DocumentException, IOException {
+        Document document = new Document(PageSize.A4.rotate());
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            document.open();
+            SpecificationSheet.draw(writer.getDirectContent(), snapshot, modelImage, equipPrice, totalPrice);
+        } finally {
+            try {
+                if(document.isOpen()) {
+                    //Closes the writer and with it the stream
+                    document.close();
+                }
+            } finally {
+                //In case the writer was never created or failed to close; a second
+                //close does nothing
+                out.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Developer: Jack Loss
+ * File Name: SpecificationSheet.java
+ * Date: October 18, 2026
+ * Purpose: Lays out the specification summary on a PDF page, so spec sheets
+ *          can be printed without the configurator GUI (MainWindow.java)
+ */
+package configurator;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.ColumnText;
+import com.itextpdf.text.pdf.PdfContentByte;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Draws the overview window's title, model photo, prices and option rows
+ * straight onto the page with iText, at the positions and sizes the window
+ * has on screen, scaled to fit a landscape A4 page as the window was when it
+ * was printed. Positions below are in window pixels from the top left.
+ * <p>
+ * Nothing here touches Swing, so any number of export threads can draw
+ * sheets at once. Verdana is not one of the PDF standard fonts, so the text
+ * is set in Helvetica, as printing the window used to substitute it.
+ * @author Jack
+ */
+public class SpecificationSheet {
+    //The window was printed into a template its own size in points, scaled and
+    //moved down, with the template at the bottom left of the page
+    private static final float WINDOW_HEIGHT = 630;
+    private static final float SCALE = 0.76f;
+    private static final float TOP_MARGIN = 100;
+
+    private static final int LEFT = 40;
+    private static final int RIGHT = 460;
+    private static final int RIGHT_WIDTH = 600;
+    private static final int PRICE_WIDTH = 150;
+    private static final int ROW_HEIGHT = 20;
+    private static final BaseColor HEADER_COLOR = new BaseColor(192, 192, 192);
+    private static final BaseColor SEPARATOR_COLOR = new BaseColor(184, 207, 229);
+
+    //Window y as drawn is TOP - y
+    private static final float TOP = WINDOW_HEIGHT / SCALE - TOP_MARGIN;
+
+    private final PdfContentByte canvas;
+    private final Font titleFont;
+    private final Font priceFont;
+    private final Font totalFont;
+    private final Font headingFont;
+    private final Font rowFont;
+
+    private SpecificationSheet(PdfContentByte canvas) throws DocumentException, IOException {
+        this.canvas = canvas;
+        //The standard fonts are cached by iText and safe to share between documents
+        BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        titleFont = new Font(bold, 24);
+        priceFont = new Font(regular, 12);
+        totalFont = new Font(bold, 12);
+        headingFont = new Font(bold, 14);
+        rowFont = new Font(regular, 14);
+    }
+
+    //Draws the sheet on the canvas's current page. modelImage may be null when
+    //the photo could not be loaded.
+    public static void draw(PdfContentByte canvas, CaymanSnapshot snapshot, java.awt.Image modelImage,
+            int equipPrice, int totalPrice) throws DocumentException, IOException {
+        SpecificationSheet sheet = new SpecificationSheet(canvas);
+        canvas.saveState();
+        try {
+            canvas.concatCTM(SCALE, 0, 0, SCALE, 0, 0);
+            sheet.drawSheet(snapshot, modelImage, equipPrice, totalPrice);
+        } finally {
+            //Kept balanced even on failure, or closing the document would throw
+            //in place of the real error
+            canvas.restoreState();
+        }
+    }
+
+    private void drawSheet(CaymanSnapshot snapshot, java.awt.Image modelImage, int equipPrice, int totalPrice)
+            throws DocumentException, IOException {
+        text("2018 Porsche 718 Cayman S", titleFont, Element.ALIGN_LEFT, LEFT, 20, 30);
+        if(modelImage != null) {
+            Image photo = toPdfImage(modelImage);
+            photo.scaleAbsolute(modelImage.getWidth(null), modelImage.getHeight(null));
+            photo.setAbsolutePosition(LEFT, TOP - 70 - photo.getScaledHeight());
+            canvas.addImage(photo);
+        }
+        int y = 320;
+        y = priceRow("Base Price:", CaymanPricing.BASE_PRICE, priceFont, y);
+        y = priceRow("Price for Equipment:", equipPrice, priceFont, y);
+        y = priceRow("Delivery, Processing, and Handling Fee:", CaymanPricing.DELIVERY_PRICE, priceFont, y);
+        priceRow("Total Price:", totalPrice, totalFont, y);
+
+        canvas.saveState();
+        canvas.setColorFill(HEADER_COLOR);
+        canvas.rectangle(RIGHT, TOP - 100, RIGHT_WIDTH, 30);
+        canvas.fill();
+        canvas.restoreState();
+        text("Description", rowFont, Element.ALIGN_LEFT, RIGHT + 10, 75, ROW_HEIGHT);
+        text("Price", rowFont, Element.ALIGN_RIGHT, RIGHT + RIGHT_WIDTH - 10, 75, ROW_HEIGHT);
+        y = 110;
+        LineItem[] choices = {snapshot.getExtColor(), snapshot.getWheelStyle(), snapshot.getIntColor(), snapshot.getTrans()};
+        for(LineItem choice : choices) {
+            y = section(choice.getCategory().getLabel(), y);
+            y = itemRow(choice.getName(), choice.getDisplayPrice(), y);
+        }
+        y = section("Additional Upgrades", y);
+        List<LineItem> options = snapshot.getOptions();
+        if(options.isEmpty()) {
+            itemRow("N/A", "N/A", y);
+        }
+        for(LineItem option : options) {
+            y = itemRow(option.getName(), option.getDisplayPrice(), y);
+        }
+    }
+
+    private int priceRow(String title, int dollars, Font font, int y) {
+        text(title, font, Element.ALIGN_LEFT, LEFT, y, ROW_HEIGHT);
+        text(LineItem.toDisplayPrice(dollars * 100L), font, Element.ALIGN_RIGHT, LEFT + 360, y, ROW_HEIGHT);
+        return y + ROW_HEIGHT + 5;
+    }
+
+    private int section(String title, int y) {
+        text(title, headingFont, Element.ALIGN_LEFT, RIGHT + 10, y, ROW_HEIGHT);
+        return y + ROW_HEIGHT;
+    }
+
+    private int itemRow(String name, String price, int y) {
+        text(name, rowFont, Element.ALIGN_LEFT, RIGHT + 10, y, ROW_HEIGHT);
+        text(price, rowFont, Element.ALIGN_RIGHT, RIGHT + RIGHT_WIDTH - 10, y, ROW_HEIGHT);
+        canvas.saveState();
+        canvas.setColorStroke(SEPARATOR_COLOR);
+        canvas.setLineWidth(1);
+        canvas.moveTo(RIGHT, TOP - (y + ROW_HEIGHT + 4.5f));
+        canvas.lineTo(RIGHT + RIGHT_WIDTH, TOP - (y + ROW_HEIGHT + 4.5f));
+        canvas.stroke();
+        canvas.restoreState();
+        return y + ROW_HEIGHT + 10;
+    }
+
+    //Centres one line vertically in a row of the given height, as a label does;
+    //x is the left edge for left-aligned text and the right edge otherwise
+    private void text(String text, Font font, int alignment, float x, float y, float height) {
+        BaseFont baseFont = font.getBaseFont();
+        float ascent = baseFont.getFontDescriptor(BaseFont.ASCENT, font.getSize());
+        float descent = baseFont.getFontDescriptor(BaseFont.DESCENT, font.getSize());
+        float baseline = y + (height - (ascent - descent)) / 2 + ascent;
+        ColumnText.showTextAligned(canvas, alignment, new Phrase(text, font), x, TOP - baseline, 0);
+    }
+
+    //Decoded model photos are BufferedImages, whose pixels are copied out
+    //directly; anything else goes through iText's own AWT conversion
+    private static Image toPdfImage(java.awt.Image image) throws DocumentException, IOException {
+        if(!(image instanceof BufferedImage)) {
+            return Image.getInstance(image, null);
+        }
+        BufferedImage buffered = (BufferedImage) image;
+        int width = buffered.getWidth();
+        int height = buffered.getHeight();
+        int[] argb = buffered.getRGB(0, 0, width, height, null, 0, width);
+        byte[] rgb = new byte[argb.length * 3];
+        for(int i = 0; i < argb.length; i++) {
+            rgb[i * 3] = (byte) (argb[i] >> 16);
+            rgb[i * 3 + 1] = (byte) (argb[i] >> 8);
+            rgb[i * 3 + 2] = (byte) argb[i];
+        }
+        return Image.getInstance(width, height, 3, 8, rgb);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Developer: Jack Loss
+ * File Name: StartupTimeline.java
+ * Date: October 18, 2026
+ * Purpose: Records where launch time goes, from main() to the first interactive
+ *          frame of the configurator GUI (MainWindow.java)
+ */
+package configurator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @author Jack
+ */
+public class StartupTimeline {
+    //-Dcayman.startupProfile=true prints the breakdown to stderr once the main
+    //window handles its first input; -Dcayman.startupProfile.json=<file> also writes it as JSON
+    private static final String PRINT_PROPERTY = "cayman.startupProfile";
+    private static final String JSON_PROPERTY = "cayman.startupProfile.json";
+    private static final boolean PRINT = Boolean.getBoolean(PRINT_PROPERTY);
+    private static final String JSON_FILE = System.getProperty(JSON_PROPERTY);
+    private static final boolean ENABLED = PRINT || JSON_FILE != null;
+
+    private static final Logger LOGGER = Logger.getLogger(StartupTimeline.class.getName());
+    //Timestamps are nanoseconds after the first thing the timeline saw
+    private static final long ORIGIN = System.nanoTime();
+
+    private static final List<Phase> PHASES = new ArrayList<>();
+    private static final Map<String, Phase> OPEN_PHASES = new HashMap<>();
+    private static boolean finished;
+
+    private StartupTimeline() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    //Starts a named phase on the calling thread. Phases may overlap, e.g. icon
+    //preloading runs while the look and feel is set up.
+    public static void begin(String name) {
+        if(!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime() - ORIGIN;
+        synchronized (PHASES) {
+            if(finished || OPEN_PHASES.containsKey(name)) {
+                return;
+            }
+            Phase phase = new Phase(name, Thread.currentThread().getName(), now);
+            PHASES.add(phase);
+            OPEN_PHASES.put(name, phase);
+        }
+    }
+
+    public static void end(String name) {
+        if(!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime() - ORIGIN;
+        synchronized (PHASES) {
+            Phase phase = OPEN_PHASES.remove(name);
+            if(phase != null) {
+                phase.end = now;
+            }
+        }
+    }
+
+    //Records an instant, e.g. the first paint; only the first mark of a name counts
+    public static void mark(String name) {
+        if(!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime() - ORIGIN;
+        synchronized (PHASES) {
+            if(finished) {
+                return;
+            }
+            for(Phase phase : PHASES) {
+                if(phase.name.equals(name)) {
+                    return;
+                }
+            }
+            Phase instant = new Phase(name, Thread.currentThread().getName(), now);
+            instant.end = now;
+            PHASES.add(instant);
+        }
+    }
+
+    //Closes the timeline with a final mark and reports it. Called when the main
+    //window handles its first mouse or key event.
+    public static void finish(String name) {
+        if(!ENABLED) {
+            return;
+        }
+        mark(name);
+        List<Phase> phases;
+        synchronized (PHASES) {
+            if(finished) {
+                return;
+            }
+            finished = true;
+            phases = new ArrayList<>(PHASES);
+        }
+        //How long the JVM ran before the origin; looked up only now since it is slow
+        long jvmUptimeAtOrigin = ManagementFactory.getRuntimeMXBean().getUptime() - (System.nanoTime() - ORIGIN) / 1000000;
+        if(PRINT) {
+            print(phases, jvmUptimeAtOrigin, System.err);
+        }
+        if(JSON_FILE != null) {
+            try {
+                writeJson(phases, jvmUptimeAtOrigin, new File(JSON_FILE));
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Could not write startup timeline to " + JSON_FILE, ex);
+            }
+        }
+    }
+
+    private static void print(List<Phase> phases, long jvmUptimeAtOrigin, PrintStream out) {
+        out.println(String.format(Locale.ROOT, "Startup timeline (JVM uptime before first phase: %d ms)", jvmUptimeAtOrigin));
+        out.println(String.format(Locale.ROOT, "%12s %12s  %s", "start ms", "duration ms", "phase [thread]"));
+        for(Phase phase : phases) {
+            String duration = phase.end < 0 ? "unfinished" : String.format(Locale.ROOT, "%.3f", phase.getDuration() / 1e6);
+            out.println(String.format(Locale.ROOT, "%12.3f %12s  %s [%s]", phase.start / 1e6, duration, phase.name, phase.thread));
+        }
+    }
+
+    private static void writeJson(List<Phase> phases, long jvmUptimeAtOrigin, File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write("{\n");
+            writer.write("  \"jvmUptimeBeforeFirstPhaseMillis\": " + jvmUptimeAtOrigin + ",\n");
+            writer.write("  \"javaVersion\": " + quote(System.getProperty("java.version")) + ",\n");
+            writer.write("  \"phases\": [");
+            for(int i = 0; i < phases.size(); i++) {
+                Phase phase = phases.get(i);
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write("    {\"name\": " + quote(phase.name)
+                        + ", \"thread\": " + quote(phase.thread)
+                        + ", \"startNanos\": " + phase.start
+                        + ", \"endNanos\": " + (phase.end < 0 ? "null" : Long.toString(phase.end))
+                        + ", \"durationNanos\": " + (phase.end < 0 ? "null" : Long.toString(phase.getDuration()))
+                        + "}");
+            }
+            writer.write("\n  ]\n}\n");
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for(char c : value.toCharArray()) {
+            if(c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if(c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static class Phase {
+        private final String name;
+        private final String thread;
+        private final long start;
+        //-1 until the phase ends
+        private long end = -1;
+
+        private Phase(String name, String thread, long start) {
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+        }
+
+        private long getDuration() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Developer: Jack Loss
+ * File Name: UiIcons.java
+ * Date: October 18, 2026
+ * Purpose: Loads each UI image once and hands out shared icons to the
+ *          configurator GUI (MainWindow.java)
+ */
+package configurator;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * @author Jack
+ */
+public class UiIcons {
+    //Every image initComponents() uses, plus the favicon
+    private static final String[] PRELOADED_PATHS = {
+        "/configurator/images/ui-items/buttons/cancel-button.png",
+        "/configurator/images/ui-items/buttons/checkbox-deselected.png",
+        "/configurator/images/ui-items/buttons/checkbox-selected.png",
+        "/configurator/images/ui-items/buttons/image-select-radio-deselected.png",
+        "/configurator/images/ui-items/buttons/image-select-radio-selected.png",
+        "/configurator/images/ui-items/buttons/ok-button.png",
+        "/configurator/images/ui-items/buttons/radio-button-deselected.png",
+        "/configurator/images/ui-items/buttons/radio-button-selected.png",
+        "/configurator/images/ui-items/buttons/save-as-csv-button.png",
+        "/configurator/images/ui-items/buttons/save-as-pdf-button.png",
+        "/configurator/images/ui-items/buttons/show-overview-button.png",
+        "/configurator/images/ui-items/icons/error-dialog-icon.png",
+        "/configurator/images/ui-items/icons/porsche-favicon.png",
+        "/configurator/images/ui-items/icons/success-dialog-icon.png",
+        "/configurator/images/ui-items/leather-samples/not-selected/black.PNG",
+        "/configurator/images/ui-items/leather-samples/not-selected/bordeaux-red.PNG",
+        "/configurator/images/ui-items/leather-samples/not-selected/espresso.PNG",
+        "/configurator/images/ui-items/leather-samples/selected/black.png",
+        "/configurator/images/ui-items/leather-samples/selected/bordeaux-red.png",
+        "/configurator/images/ui-items/leather-samples/selected/espresso.png",
+        "/configurator/images/ui-items/paint-samples/not-selected/carrera-white-metallic.PNG",
+        "/configurator/images/ui-items/paint-samples/not-selected/guards-red.PNG",
+        "/configurator/images/ui-items/paint-samples/not-selected/jet-black-metallic.PNG",
+        "/configurator/images/ui-items/paint-samples/not-selected/miami-blue.PNG",
+        "/configurator/images/ui-items/paint-samples/not-selected/racing-yellow.PNG",
+        "/configurator/images/ui-items/paint-samples/selected/carrera-white-metallic.png",
+        "/configurator/images/ui-items/paint-samples/selected/guards-red.png",
+        "/configurator/images/ui-items/paint-samples/selected/jet-black-metallic.png",
+        "/configurator/images/ui-items/paint-samples/selected/miami-blue.png",
+        "/configurator/images/ui-items/paint-samples/selected/racing-yellow.png",
+        "/configurator/images/ui-items/wheel-types/not-selected/19-cayman-s.PNG",
+        "/configurator/images/ui-items/wheel-types/not-selected/20-911-turbo.PNG",
+        "/configurator/images/ui-items/wheel-types/not-selected/20-carrera-s.PNG",
+        "/configurator/images/ui-items/wheel-types/selected/19-cayman-s.png",
+        "/configurator/images/ui-items/wheel-types/selected/20-911-turbo.png",
+        "/configurator/images/ui-items/wheel-types/selected/20-carrera-s.png",
+        "/configurator/images/cayman-model/default-config/ext-1.jpg"
+    };
+
+    private static final Logger LOGGER = Logger.getLogger(UiIcons.class.getName());
+    private static final Map<String, Future<ImageIcon>> ICONS = new ConcurrentHashMap<>();
+
+    private UiIcons() {
+    }
+
+    //Starts decoding every UI image in parallel; call from main() so the work
+    //overlaps look-and-feel setup. Icons asked for before they finish just wait.
+    public static void preload() {
+        StartupTimeline.begin("icon preload");
+        ExecutorService loaders = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "ui-icon-loader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final AtomicInteger remaining = new AtomicInteger(PRELOADED_PATHS.length);
+        for(String path : PRELOADED_PATHS) {
+            final FutureTask<ImageIcon> task = newLoad(path);
+            if(ICONS.putIfAbsent(path, task) == null) {
+                loaders.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        task.run();
+                        if(remaining.decrementAndGet() == 0) {
+                            StartupTimeline.end("icon preload");
+                        }
+                    }
+                });
+            } else if(remaining.decrementAndGet() == 0) {
+                StartupTimeline.end("icon preload");
+            }
+        }
+        loaders.shutdown();
+    }
+
+    //Returns the shared icon for a classpath image ("/configurator/images/..."),
+    //loading it on the calling thread if nobody has yet
+    public static ImageIcon get(String path) {
+        Future<ImageIcon> icon = ICONS.get(path);
+        if(icon == null) {
+            FutureTask<ImageIcon> task = newLoad(path);
+            icon = ICONS.putIfAbsent(path, task);
+            if(icon == null) {
+                icon = task;
+                task.run();
+            }
+        }
+        try {
+            return icon.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + path, ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Could not load " + path, ex.getCause());
+        }
+    }
+
+    private static FutureTask<ImageIcon> newLoad(final String path) {
+        return new FutureTask<>(new Callable<ImageIcon>() {
+            @Override
+            public ImageIcon call() throws Exception {
+                URL url = UiIcons.class.getResource(path);
+                if(url == null) {
+                    LOGGER.log(Level.SEVERE, "UI image not found: {0}", path);
+                    return new ImageIcon();
+                }
+                return new ImageIcon(ImageIO.read(url));
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Developer: Jack Loss
+ * File Name: UpdateCoalescer.java
+ * Date: October 18, 2026
+ * Purpose: Collapses bursts of update requests on the Event Dispatch Thread into a
+ *          single run of the update
+ */
+package configurator;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * @author Jack
+ */
+public class UpdateCoalescer {
+    private final Runnable update;
+    //Only touched on the EDT
+    private boolean scheduled;
+
+    public UpdateCoalescer(Runnable update) {
+        this.update = update;
+    }
+
+    //Schedules the update behind the events already queued on the EDT. Requests
+    //made before it runs share that one run, which then sees the final state.
+    public void requestUpdate() {
+        if(scheduled) {
+            return;
+        }
+        scheduled = true;
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                scheduled = false;
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Developer: Jack Loss
+ * File Name: PriceEngineTest.java
+ * Date: October 18, 2026
+ * Purpose: Checks that PriceEngine's running prices always agree with pricing
+ *          the whole specification from scratch
+ */
+package configurator;
+
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Drives a PriceEngine and a Cayman through the same random clicks and compares
+ * the engine's running equipment price with CaymanPricing's full sum over the
+ * Cayman's snapshot after every one.
+ * @author Jack
+ */
+public class PriceEngineTest {
+    private static final LineItem.Category[] CHOICE_CATEGORIES = {LineItem.Category.PAINT,
+        LineItem.Category.WHEELS, LineItem.Category.INTERIOR, LineItem.Category.TRANSMISSION};
+    private static final int SEQUENCES = 200;
+    private static final int CLICKS = 100;
+
+    private final OptionCatalogue catalogue = OptionCatalogue.getDefault();
+
+    @Test
+    public void startsAtTheDefaultCayman() {
+        PriceEngine engine = new PriceEngine(catalogue);
+        assertEquals(CaymanPricing.getEquipPrice(new Cayman().snapshot()), engine.getEquipPrice());
+    }
+
+    @Test
+    public void randomClicksMatchFullRecompute() {
+        //Fixed seed, so a failure can be replayed
+        Random random = new Random(718);
+        int upgradeCount = catalogue.getCount(LineItem.Category.UPGRADE);
+        for(int sequence = 0; sequence < SEQUENCES; sequence++) {
+            PriceEngine engine = new PriceEngine(catalogue);
+            Cayman cayman = new Cayman();
+            long upgrades = 0;
+            for(int click = 0; click < CLICKS; click++) {
+                String step;
+                if(random.nextInt(CHOICE_CATEGORIES.length + 1) < CHOICE_CATEGORIES.length) {
+                    LineItem.Category category = CHOICE_CATEGORIES[random.nextInt(CHOICE_CATEGORIES.length)];
+                    int ordinal = random.nextInt(catalogue.getCount(category));
+                    engine.setChoice(category, ordinal);
+                    cayman.setChoice(category, ordinal);
+                    step = category + " " + ordinal;
+                } else {
+                    int upgrade = random.nextInt(upgradeCount);
+                    boolean chosen = random.nextBoolean();
+                    engine.setUpgrade(upgrade, chosen);
+                    upgrades = chosen ? upgrades | 1L << upgrade : upgrades & ~(1L << upgrade);
+                    step = "upgrade " + upgrade + (chosen ? " on" : " off");
+                }
+                cayman.clearOptions();
+                for(int i = 0; i < upgradeCount; i++) {
+                    if((upgrades & 1L << i) != 0) {
+                        cayman.addUpgrade(i);
+                    }
+                }
+                int expected = CaymanPricing.getEquipPrice(cayman.snapshot());
+                String where = "sequence " + sequence + ", click " + click + " (" + step + ")";
+                assertEquals(where, expected, engine.getEquipPrice());
+                assertEquals(where, CaymanPricing.getTotalPrice(expected), engine.getTotalPrice());
+                assertEquals(where, expected, engine.recompute());
+            }
+        }
+    }
+
+    @Test
+    public void setConfigurationMatchesFullRecompute() {
+        Random random = new Random(981);
+        PriceEngine engine = new PriceEngine(catalogue);
+        for(int i = 0; i < SEQUENCES; i++) {
+            Cayman cayman = new Cayman();
+            for(LineItem.Category category : CHOICE_CATEGORIES) {
+                cayman.setChoice(category, random.nextInt(catalogue.getCount(category)));
+            }
+            long upgrades = random.nextLong() & ((1L << catalogue.getCount(LineItem.Category.UPGRADE)) - 1);
+            for(int u = 0; upgrades >>> u != 0; u++) {
+                if((upgrades & 1L << u) != 0) {
+                    cayman.addUpgrade(u);
+                }
+            }
+            engine.setConfiguration(ConfigurationKey.encode(cayman, upgrades));
+            assertEquals(CaymanPricing.getEquipPrice(cayman.snapshot()), engine.getEquipPrice());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAChoiceBeyondTheCatalogue() {
+        new PriceEngine(catalogue).setChoice(LineItem.Category.PAINT, catalogue.getCount(LineItem.Category.PAINT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsANegativeChoice() {
+        new PriceEngine(catalogue).setChoice(LineItem.Category.WHEELS, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnUpgradeBeyondTheCatalogue() {
+        new PriceEngine(catalogue).setUpgrade(catalogue.getCount(LineItem.Category.UPGRADE), true);
+    }
+}